@@ -71,10 +71,9 @@ public class AccountantController extends BaseController {
 
         private void viewAllIncomes() {
             ExceptionHandler.execute(() -> {
-                List<Income> incomes = incomeService.getAllIncomes();
-                showEntitiesTable(incomes, "Список доходов:  ");
+                showPagedTable(incomeService::getIncomesPage, "Список доходов:  ");
 
-                BigDecimal totalIncome = incomeService.getTotalIncome(incomes);
+                BigDecimal totalIncome = incomeService.getTotalIncome();
                 println("\nОбщая сумма доходов за период: " + totalIncome);
             });
         }
@@ -95,10 +94,12 @@ public class AccountantController extends BaseController {
         private void viewIncomesByDateRange() {
             ExceptionHandler.execute(() ->
                     showDateRangeMenu((startDate, endDate) -> {
-                        List<Income> incomes = incomeService.getIncomesByDateRange(startDate, endDate);
-                        showEntitiesTable(incomes, "Список доходов за период " + startDate + " - " + endDate);
+                        showPagedTable(
+                                (afterId, limit) -> incomeService.getIncomesPageByDateRange(startDate, endDate, afterId, limit),
+                                "Список доходов за период " + startDate + " - " + endDate
+                        );
 
-                        BigDecimal totalIncome = incomeService.getTotalIncome(incomes);
+                        BigDecimal totalIncome = incomeService.getTotalIncome(startDate, endDate);
                         println("\nОбщая сумма доходов за период: " + totalIncome);
                     }));
         }
@@ -120,7 +121,7 @@ public class AccountantController extends BaseController {
         private void editIncome() {
             ExceptionHandler.execute(() -> {
                 selectEntitiesForDateRange(
-                        incomeService::getIncomesByDateRange,
+                        incomeService::streamIncomesByDateRange,
                         "Выберите доход для редактирования"
                 );
 
@@ -147,7 +148,7 @@ public class AccountantController extends BaseController {
         private void deleteIncome() {
             ExceptionHandler.execute(() -> {
                 selectEntitiesForDateRange(
-                        incomeService::getIncomesByDateRange,
+                        incomeService::streamIncomesByDateRange,
                         "Выберите доход для удаления"
                 );
 
@@ -184,11 +185,9 @@ public class AccountantController extends BaseController {
 
         private void viewAllExpenses() {
             ExceptionHandler.execute(() -> {
-                List<Expense> expenses = expenseService.getAllExpenses();
+                showPagedTable(expenseService::getExpensesPage, "Список всех расходов: ");
 
-                showEntitiesTable(expenses, "Список всех расходов: ");
-
-                BigDecimal totalExpense = expenseService.getTotalExpenses(expenses);
+                BigDecimal totalExpense = expenseService.getTotalExpenses();
                 println("\nОбщая сумма расходов: " + totalExpense);
             });
         }
@@ -209,14 +208,15 @@ public class AccountantController extends BaseController {
         private void viewExpensesByDateRange() {
             ExceptionHandler.execute(() ->
                     showDateRangeMenu((startDate, endDate) -> {
-                        List<Expense> expenses = expenseService.getExpensesByDateRange(
-                                fromLocalDate(startDate),
-                                endOfDay(endDate)
-                        );
+                        Timestamp start = fromLocalDate(startDate);
+                        Timestamp end = endOfDay(endDate);
 
-                        showEntitiesTable(expenses, "Список расходов за период " + startDate + " - " + endDate);
+                        showPagedTable(
+                                (afterId, limit) -> expenseService.getExpensesPageByDateRange(start, end, afterId, limit),
+                                "Список расходов за период " + startDate + " - " + endDate
+                        );
 
-                        BigDecimal totalExpense = expenseService.getTotalExpenses(expenses);
+                        BigDecimal totalExpense = expenseService.getTotalExpenses(startDate, endDate);
                         println("\nОбщая сумма расходов за период: " + totalExpense);
                     }));
         }
@@ -275,12 +275,10 @@ public class AccountantController extends BaseController {
             LocalDate startDate = getDateInput("Введите начальную дату для поиска расхода (ГГГГ-ММ-ДД): ");
             LocalDate endDate = getDateInput("Введите конечную дату для поиска расхода (ГГГГ-ММ-ДД): ");
 
-            List<Expense> expenses = expenseService.getExpensesByDateRange(
-                    fromLocalDate(startDate),
-                    endOfDay(endDate)
+            showEntitiesTable(
+                    expenseService.streamExpensesByDateRange(fromLocalDate(startDate), endOfDay(endDate)),
+                    headerMessage
             );
-
-            showEntitiesTable(expenses, headerMessage);
         }
     }
 
@@ -2,9 +2,12 @@ package controller;
 
 import model.Role;
 import model.User;
+import service.BudgetDeltaAggregator;
 import service.UserService;
 import migration.LiquibaseMigrator;
+import util.AsyncExecutor;
 import util.DatabaseConnection;
+import util.SlowQueryLog;
 
 import static util.ConsoleUtil.printHeader;
 import static util.ConsoleUtil.println;
@@ -79,7 +82,7 @@ public class ApplicationController {
         String roleName = role.name();
 
         return switch (roleName) {
-            case "Директор" -> new DirectorController();
+            case Role.DIRECTOR -> new DirectorController();
             case "Бухгалтер" -> new AccountantController();
             case "Кладовщик" -> new StockKeeperController();
             case "Кассир" -> new CashierController();
@@ -109,8 +112,11 @@ public class ApplicationController {
     }
 
     private void cleanupResources() {
+        AsyncExecutor.shutdown();
+        BudgetDeltaAggregator.getInstance().shutdown();
         DatabaseConnection.closeConnection();
         closeScanner();
+        SlowQueryLog.close();
         close();
     }
 
@@ -1,5 +1,7 @@
 package controller;
 
+import exception.InsufficientStockException;
+import model.Receipt;
 import model.Sale;
 import model.Stock;
 import service.SaleService;
@@ -7,7 +9,10 @@ import service.StockService;
 import exception.handler.ExceptionHandler;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 import static util.ConsoleUtil.*;
 import static util.InputHandler.getIntInput;
@@ -26,6 +31,7 @@ public class CashierController extends BaseController {
     public void showMenu() {
         createMenu("Меню Кассира")
                 .addMenuItem("Продать товар", this::sellProduct)
+                .addMenuItem("Оформить чек на несколько товаров", this::sellBasket)
                 .addMenuItem("Просмотреть продажи", this::viewSales)
                 .addExitItem("Выйти из системы")
                 .show();
@@ -53,10 +59,61 @@ public class CashierController extends BaseController {
         });
     }
 
+    private void sellBasket() {
+        ExceptionHandler.execute(() -> {
+            List<Stock> availableStock = stockService.getAvailableProducts();
+            showEntitiesTable(availableStock, "Доступные товары");
+
+            Map<Long, Integer> basket = new LinkedHashMap<>();
+            while (true) {
+                long productId = getLongInput("Введите ID продукта (0 - завершить): ");
+                if (productId == 0) {
+                    break;
+                }
+
+                Stock stock;
+                try {
+                    stock = stockService.getStockByProductId(productId);
+                } catch (NoSuchElementException | IllegalArgumentException e) {
+                    showError("Товар с ID " + productId + " отсутствует на складе");
+                    continue;
+                }
+
+                int quantity = getIntInput("Введите количество: ");
+                int total = basket.getOrDefault(productId, 0) + quantity;
+                if (quantity <= 0 || stock.getQuantity() < total) {
+                    showError("Недопустимое количество. Доступно: " + stock.getQuantity());
+                    continue;
+                }
+
+                basket.put(productId, total);
+                println("В корзине позиций: " + basket.size());
+            }
+
+            if (basket.isEmpty()) {
+                showError("Корзина пуста, чек не оформлен.");
+                return;
+            }
+
+            Receipt receipt;
+            try {
+                receipt = saleService.checkout(basket);
+            } catch (InsufficientStockException e) {
+                showError(e.getMessage() + ". Чек не оформлен.");
+                return;
+            }
+            showSuccess("Чек успешно оформлен. Сумма к оплате: " + receipt.getTotalAmount() + " руб.");
+
+            printReceipt(receipt);
+        });
+    }
+
     private void viewSales() {
         ExceptionHandler.execute(() -> showDateRangeMenu((startDate, endDate) -> {
-            List<Sale> sales = saleService.getSalesByDateRange(startDate, endDate);
-            showEntitiesTable(sales, "Список продаж за период " + startDate + " - " + endDate);
+            showPagedTable(
+                    (afterId, limit) -> saleService.getSalesPageByDateRange(startDate, endDate, afterId, limit),
+                    "Список продаж за период " + startDate + " - " + endDate
+            );
         }));
     }
 
@@ -69,4 +126,15 @@ public class CashierController extends BaseController {
         println("Дата: " + LocalDateTime.now());
         printDivider();
     }
+
+    private void printReceipt(Receipt receipt) {
+        printHeader("ЧЕК №" + receipt.getId());
+        for (Sale line : receipt.getLines()) {
+            println(line.getProduct().getName() + ": " + line.getQuantity() + " x " +
+                    line.getProduct().getSellPrice() + " = " + line.getTotalAmount() + " руб.");
+        }
+        println("Итого: " + receipt.getTotalAmount() + " руб.");
+        println("Дата: " + receipt.getFormattedReceiptDate());
+        printDivider();
+    }
 }
\ No newline at end of file
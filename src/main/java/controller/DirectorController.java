@@ -1,8 +1,12 @@
 package controller;
 
+import dao.QueryPlanCheck;
+import model.BudgetSummary;
+import model.DailySalesSummary;
 import model.MonthlyBudget;
-import model.Payroll;
+import model.PayrollSummary;
 import model.Role;
+import model.SalesBreakdown;
 import model.User;
 import service.*;
 import util.*;
@@ -12,7 +16,11 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 
+import static util.AsyncExecutor.join;
+import static util.AsyncExecutor.supplyAsync;
 import static util.ConsoleUtil.*;
 import static util.InputHandler.*;
 import static util.LoggerUtil.error;
@@ -21,23 +29,31 @@ public class DirectorController extends BaseController {
     private final UserService userService;
     private final MonthlyBudgetService budgetService;
     private final PayrollService payrollService;
+    private final SaleService saleService;
+    private final SalesAnalyticsService analyticsService;
 
     private final List<Role> roles;
 
     private final BudgetController budgetController;
     private final EmployeeController employeeController;
     private final StatisticController statisticController;
+    private final SalesAnalyticsController salesAnalyticsController;
+    private final DiagnosticsController diagnosticsController;
 
     public DirectorController() {
         userService = UserService.getInstance();
         budgetService = MonthlyBudgetService.getInstance();
         payrollService = PayrollService.getInstance();
+        saleService = SaleService.getInstance();
+        analyticsService = SalesAnalyticsService.getInstance();
 
         roles = RoleService.getInstance().getAllRoles();
 
         budgetController = new BudgetController();
         employeeController = new EmployeeController();
         statisticController = new StatisticController();
+        salesAnalyticsController = new SalesAnalyticsController();
+        diagnosticsController = new DiagnosticsController();
     }
 
     @Override
@@ -46,6 +62,8 @@ public class DirectorController extends BaseController {
                 .addMenuItem("Управление бюджетами", budgetController::manageBudgets)
                 .addMenuItem("Управление сотрудниками", employeeController::manageEmployees)
                 .addMenuItem("Просмотр статистики", statisticController::viewStatistics)
+                .addMenuItem("Аналитика продаж", salesAnalyticsController::manageAnalytics)
+                .addMenuItem("Диагностика", diagnosticsController::manageDiagnostics)
                 .addExitItem("Выйти из системы")
                 .show();
     }
@@ -63,8 +81,7 @@ public class DirectorController extends BaseController {
 
         private void viewAllBudgets() {
             ExceptionHandler.execute(() -> {
-                List<MonthlyBudget> budgets = budgetService.getAllBudgets();
-                showEntitiesTable(budgets, "Список всех бюджетов на месяц: ");
+                showPagedTable(budgetService::getBudgetsPage, "Список всех бюджетов на месяц: ");
             });
         }
 
@@ -175,8 +192,7 @@ public class DirectorController extends BaseController {
 
         private void toggleEmployeeStatus() {
             ExceptionHandler.execute(() -> {
-                List<User> users = userService.getAllUsers();
-                showEntitiesTable(users, "Все сотрудники");
+                showPagedTable(userService::getUsersPage, "Все сотрудники");
                 Long userId = getLongInput("Введите ID сотрудника: ");
                 User user = userService.getUserById(userId);
 
@@ -205,42 +221,188 @@ public class DirectorController extends BaseController {
     private class StatisticController{
         private void viewStatistics() {
             ExceptionHandler.execute(() -> showDateRangeMenu((startDate, endDate) -> {
-                budgetController.viewBudgetsByDateRange(startDate, endDate);
+                CompletableFuture<List<MonthlyBudget>> budgets =
+                        supplyAsync(() -> budgetService.getBudgetsByDateRange(startDate, endDate));
+                CompletableFuture<BudgetSummary> summary =
+                        supplyAsync(() -> budgetService.getBudgetSummary(startDate, endDate));
+                CompletableFuture<PayrollSummary> payrolls =
+                        supplyAsync(() -> payrollService.getPayrollSummary(startDate, endDate));
+                CompletableFuture<List<DailySalesSummary>> sales =
+                        supplyAsync(() -> saleService.getDailySummary(startDate, endDate));
+
+                printBudgets(startDate, endDate, budgets);
+                printDailySales(startDate, endDate, sales);
                 printHeader("Сводка");
-                printBudgetSummary(startDate, endDate);
-                printPayrollsSummary(startDate, endDate);
+                printBudgetSummary(join(summary));
+                printPayrollsSummary(startDate, endDate, join(payrolls));
             }));
         }
 
-        private void printPayrollsSummary(LocalDate start, LocalDate end) {
-            List<Payroll> payrolls = payrollService.getPayrollsByPeriod(start, end);
+        private void printBudgets(LocalDate start, LocalDate end, CompletableFuture<List<MonthlyBudget>> budgets) {
+            ExceptionHandler.execute(() -> {
+                List<MonthlyBudget> result = join(budgets);
+                printHeader("Статистика бюджета за период " + start + " - " + end);
+                println(TableFormatter.formatTable(result));
+            });
+        }
 
-            long totalPayrolls = payrolls.size();
-            long paidPayrolls = payrolls.stream().filter(Payroll::isPaid).count();
-            long unpaidPayrolls = totalPayrolls - paidPayrolls;
+        private void printDailySales(LocalDate start, LocalDate end, CompletableFuture<List<DailySalesSummary>> sales) {
+            ExceptionHandler.execute(() -> {
+                List<DailySalesSummary> result = join(sales);
+                printHeader("Продажи по дням за период " + start + " - " + end);
+                println(TableFormatter.formatTable(result));
+            });
+        }
 
+        private void printPayrollsSummary(LocalDate start, LocalDate end, PayrollSummary payrolls) {
             printHeader("Статистика зарплат за период " + start + " - " + end);
-            println("Всего начислений: " + totalPayrolls);
-            println("Выплачено: " + paidPayrolls + " (" + (paidPayrolls * 100 / totalPayrolls) + "%)");
-            println("Не выплачено: " + unpaidPayrolls + " (" + (unpaidPayrolls * 100 / totalPayrolls) + "%)");
+            println("Всего начислений: " + payrolls.payrollCount() + " на сумму " + payrolls.totalAmount());
+            println("Выплачено: " + payrolls.paidCount() + " (" + payrolls.paidPercent() + "%) на сумму " +
+                    payrolls.paidAmount());
+            println("Не выплачено: " + payrolls.unpaidCount() + " (" + payrolls.unpaidPercent() + "%) на сумму " +
+                    payrolls.unpaidAmount());
+            if (!payrolls.employees().isEmpty()) {
+                println(TableFormatter.formatTable(payrolls.employees()));
+            }
+        }
+
+
+        private void printBudgetSummary(BudgetSummary summary) {
+            println("Месяцев в периоде: " + summary.months());
+            println("Плановый доход: " + summary.plannedIncome());
+            println("Плановые расходы: " + summary.plannedExpenses());
+            println("Фактический доход: " + summary.actualIncome());
+            println("Фактические расходы: " + summary.actualExpenses());
+            println("Плановая прибыль: " + summary.plannedProfit());
+            println("Фактическая прибыль: " + summary.netResult());
+        }
+    }
+
+    private class SalesAnalyticsController {
+        private void manageAnalytics() {
+            createMenu("Аналитика продаж")
+                    .addMenuItem("Выручка по товарам",
+                            () -> showReport("Выручка по товарам", analyticsService::getSalesByProduct))
+                    .addMenuItem("Выручка по категориям",
+                            () -> showReport("Выручка по категориям", analyticsService::getSalesByCategory))
+                    .addMenuItem("Выручка по категориям и товарам",
+                            () -> showReport("Выручка по категориям и товарам", analyticsService::getSalesByCategoryAndProduct))
+                    .addMenuItem("Продажи по кассирам",
+                            () -> showReport("Продажи по кассирам", analyticsService::getSalesByCashier))
+                    .addMenuItem("Продажи кассиров по дням",
+                            () -> showReport("Продажи кассиров по дням", analyticsService::getSalesByCashierAndDay))
+                    .addMenuItem("Продажи по дням",
+                            () -> showReport("Продажи по дням", analyticsService::getSalesByDay))
+                    .addMenuItem("Продажи по месяцам",
+                            () -> showReport("Продажи по месяцам", analyticsService::getSalesByMonth))
+                    .addExitItem("Назад")
+                    .show();
+        }
+
+        private void showReport(String title, BiFunction<LocalDate, LocalDate, List<SalesBreakdown>> report) {
+            ExceptionHandler.execute(() -> showDateRangeMenu((startDate, endDate) -> {
+                printHeader(title + " за период " + startDate + " - " + endDate);
+                println(TableFormatter.formatTable(report.apply(startDate, endDate)));
+            }));
+        }
+    }
+
+    private class DiagnosticsController {
+        private void manageDiagnostics() {
+            createMenu("Диагностика")
+                    .addMenuItem("Метрики операций", this::viewDiagnostics)
+                    .addMenuItem("Проверка планов запросов", this::viewQueryPlans)
+                    .addMenuItem("Обновить справочники", this::refreshReferenceData)
+                    .addMenuItem("Пересчитать сводку продаж", this::rebuildSalesSummary)
+                    .addMenuItem("Записать изменения бюджетов", this::flushBudgetDeltas)
+                    .addExitItem("Назад")
+                    .show();
+        }
+
+        private void viewDiagnostics() {
+            ExceptionHandler.execute(() -> {
+                printHeader("Время выполнения операций");
+                println(TableFormatter.formatTable(Metrics.getSnapshots()));
+                printPoolStats(DatabaseConnection.getPoolStats());
+                printStatementCacheStats(StatementCache.getStats());
+                printProductCacheStats(ProductService.getInstance().getCacheStats());
+                printBudgetDeltaStats(BudgetDeltaAggregator.getInstance());
+            });
         }
 
+        private void viewQueryPlans() {
+            ExceptionHandler.execute(() -> {
+                List<QueryPlanCheck.Result> results = QueryPlanCheck.run();
+                long withoutIndex = results.stream().filter(result -> !result.usesIndex()).count();
+
+                printHeader("Планы выполнения запросов");
+                println(TableFormatter.formatTable(results));
+                if (withoutIndex == 0) {
+                    showSuccess("Все запросы используют индексы.");
+                } else {
+                    showError("Запросов без индекса: " + withoutIndex);
+                }
+            });
+        }
 
-        private void printBudgetSummary(LocalDate start, LocalDate end) {
-            BigDecimal plannedIncome = budgetService.getTotalPlannedIncome(start, end);
-            BigDecimal actualIncome = budgetService.getTotalActualIncome(start, end);
-            BigDecimal plannedExpenses = budgetService.getTotalPlannedExpenses(start, end);
-            BigDecimal actualExpenses = budgetService.getTotalActualExpenses(start, end);
+        private void refreshReferenceData() {
+            ExceptionHandler.execute(() -> {
+                RoleService.getInstance().refresh();
+                ProductCategoryService.getInstance().refresh();
+                ExpenseCategoryService.getInstance().refresh();
+                IncomeSourceService.getInstance().refresh();
+                showSuccess("Справочники обновлены.");
+            });
+        }
 
-            BigDecimal plannedProfit = plannedIncome.subtract(plannedExpenses);
-            BigDecimal actualProfit = actualIncome.subtract(actualExpenses);
+        private void rebuildSalesSummary() {
+            ExceptionHandler.execute(() -> {
+                long rows = saleService.rebuildDailySummary();
+                showSuccess("Сводка продаж пересчитана, строк: " + rows);
+            });
+        }
+
+        private void flushBudgetDeltas() {
+            ExceptionHandler.execute(() -> {
+                if (BudgetDeltaAggregator.getInstance().flush()) {
+                    showSuccess("Изменения месячных бюджетов записаны.");
+                } else {
+                    showError("Не удалось записать изменения месячных бюджетов, подробности в журнале.");
+                }
+            });
+        }
+
+        private void printPoolStats(ConnectionPool.Stats stats) {
+            printHeader("Пул соединений");
+            println("Активных: " + stats.active() + ", свободных: " + stats.idle() +
+                    ", открыто: " + stats.opened() + " из " + stats.maxSize());
+            println("Выдано соединений: " + stats.leases() + ", таймаутов: " + stats.timeouts());
+            println(String.format("Ожидание соединения: среднее %.2f мс, максимальное %.2f мс",
+                    stats.avgWaitMillis(), stats.maxWaitMillis()));
+        }
+
+        private void printStatementCacheStats(StatementCache.Stats stats) {
+            printHeader("Кэш подготовленных запросов");
+            println("Попаданий: " + stats.hits() + ", промахов: " + stats.misses() +
+                    ", вытеснений: " + stats.evictions());
+            println(String.format("Доля попаданий: %.1f%%", stats.hitRate() * 100));
+        }
+
+        private void printBudgetDeltaStats(BudgetDeltaAggregator aggregator) {
+            printHeader("Буфер изменений бюджетов");
+            println("Месяцев с незаписанными изменениями: " + aggregator.getPendingMonths() +
+                    ", неудачных попыток записи подряд: " + aggregator.getFailedFlushes());
+            if (aggregator.isStalled()) {
+                showError("Автоматическая запись остановлена, используйте \"Записать изменения бюджетов\".");
+            }
+        }
 
-            println("Плановый доход: " + plannedIncome);
-            println("Плановые расходы: " + plannedExpenses);
-            println("Фактический доход: " + actualIncome);
-            println("Фактические расходы: " + actualExpenses);
-            println("Плановая прибыль: " + plannedProfit);
-            println("Фактическая прибыль: " + actualProfit);
+        private void printProductCacheStats(LruCache.Stats stats) {
+            printHeader("Кэш товаров");
+            println("Записей: " + stats.size() + " из " + stats.capacity() +
+                    ", попаданий: " + stats.hits() + ", промахов: " + stats.misses() +
+                    ", вытеснений: " + stats.evictions());
+            println(String.format("Доля попаданий: %.1f%%", stats.hitRate() * 100));
         }
     }
 }
\ No newline at end of file
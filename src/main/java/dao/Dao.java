@@ -1,133 +1,231 @@
 package dao;
 
-import util.DatabaseConnection;
+import dao.mapper.ColumnLayout;
+import dao.mapper.RowMapper;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.stream.Stream;
 
-import static util.LoggerUtil.error;
-
-public abstract class Dao<T> {
+public abstract class Dao<T> extends QueryDao<T> {
+    protected static final int DEFAULT_BATCH_SIZE = 100;
 
     protected abstract String getTableName();
 
-    protected abstract Function<ResultSet, T> getMapper();
+    protected String getSelectSql() {
+        return "SELECT * FROM " + getTableName();
+    }
 
-    protected Connection getConnection() throws SQLException {
-        return DatabaseConnection.getConnection();
+    protected String getIdColumn() {
+        return "ID";
     }
 
-    protected Optional<T> querySingle(String sql, Object... params) {
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = prepareStatement(conn, sql, params)) {
+    protected Page<T> queryPage(String sql, int limit, Object... params) {
+        validatePageSize(limit);
+        Object[] args = Arrays.copyOf(params, params.length + 1);
+        args[params.length] = limit + 1;
+
+        long start = System.nanoTime();
+        Page<T> page = execute(sql, "Ошибка при выполнении запроса: ", new Page<>(new ArrayList<>(), null), () -> {
+            List<T> items = new ArrayList<>(limit);
+            Long lastId = null;
+            boolean hasMore = false;
+
+            try (Connection conn = getConnection();
+                 PreparedStatement pstmt = prepareStatement(conn, sql, args)) {
 
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(getMapper().apply(rs));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    RowMapper<T> mapper = null;
+                    int idIndex = 0;
+
+                    while (rs.next()) {
+                        if (items.size() == limit) {
+                            hasMore = true;
+                            break;
+                        }
+                        if (mapper == null) {
+                            ColumnLayout layout = ColumnLayout.of(sql, rs);
+                            mapper = getMapper().apply(layout);
+                            idIndex = layout.require(getCursorLabel());
+                        }
+                        items.add(mapper.mapRow(rs));
+                        lastId = rs.getLong(idIndex);
+                    }
                 }
             }
-        } catch (SQLException e) {
-            error("Ошибка при выполнении запроса: " + sql, e);
-        }
-
-        return Optional.empty();
+            return new Page<>(items, hasMore ? lastId : null);
+        });
+        afterQuery(sql, args, System.nanoTime() - start);
+        return page;
     }
 
-    protected List<T> queryList(String sql, Object... params) {
-        List<T> result = new ArrayList<>();
+    protected Long insert(String sql, Object... params) {
+        return execute(sql, "Ошибка при выполнении вставки: ", null, () -> {
+            try (Connection conn = getConnection();
+                 PreparedStatement pstmt = prepareStatement(conn, sql, params, Statement.RETURN_GENERATED_KEYS)) {
 
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = prepareStatement(conn, sql, params)) {
+                int affectedRows = pstmt.executeUpdate();
 
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    result.add(getMapper().apply(rs));
+                if (affectedRows == 0) {
+                    throw new SQLException("Создание записи не удалось, строки не затронуты.");
                 }
-            }
-        } catch (SQLException e) {
-            error("Ошибка при выполнении запроса: " + sql, e);
-        }
 
-        return result;
+                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        return generatedKeys.getLong(1);
+                    } else {
+                        throw new SQLException("Создание записи не удалось, ID не получен.");
+                    }
+                }
+            }
+        });
     }
 
-    protected Long insert(String sql, Object... params) {
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = prepareStatement(conn, sql, params, Statement.RETURN_GENERATED_KEYS)) {
+    protected boolean update(String sql, Object... params) {
+        return tryUpdate(sql, params).map(affectedRows -> affectedRows > 0).orElse(false);
+    }
 
-            int affectedRows = pstmt.executeUpdate();
+    protected Optional<Integer> tryUpdate(String sql, Object... params) {
+        return execute(sql, "Ошибка при обновлении: ", Optional.empty(), () -> {
+            try (Connection conn = getConnection();
+                 PreparedStatement pstmt = prepareStatement(conn, sql, params)) {
 
-            if (affectedRows == 0) {
-                throw new SQLException("Создание записи не удалось, строки не затронуты.");
+                return Optional.of(pstmt.executeUpdate());
             }
+        });
+    }
 
-            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    return generatedKeys.getLong(1);
-                } else {
-                    throw new SQLException("Создание записи не удалось, ID не получен.");
-                }
-            }
-        } catch (SQLException e) {
-            error("Ошибка при выполнении вставки: " + sql, e);
+    protected List<Long> insertBatch(String sql, List<Object[]> rows, int batchSize) {
+        validateBatchSize(batchSize);
+
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        return null;
+        return execute(sql, "Ошибка при выполнении пакетной вставки: ", new ArrayList<>(), () -> {
+            List<Long> ids = new ArrayList<>(rows.size());
+
+            try (Connection conn = getConnection()) {
+                boolean ownTransaction = conn.getAutoCommit();
+                if (ownTransaction) {
+                    conn.setAutoCommit(false);
+                }
+
+                try (PreparedStatement pstmt = prepareStatement(conn, sql, new Object[0], Statement.RETURN_GENERATED_KEYS)) {
+                    for (int from = 0; from < rows.size(); from += batchSize) {
+                        List<Object[]> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                        executeChunk(pstmt, chunk);
+                        collectGeneratedKeys(pstmt, ids);
+                    }
+
+                    if (ids.size() != rows.size()) {
+                        throw new SQLException("Пакетная вставка не удалась, получено " + ids.size() +
+                                " ID из " + rows.size());
+                    }
+
+                    if (ownTransaction) {
+                        conn.commit();
+                    }
+                } catch (SQLException e) {
+                    if (ownTransaction) {
+                        conn.rollback();
+                    }
+                    throw e;
+                } finally {
+                    if (ownTransaction) {
+                        conn.setAutoCommit(true);
+                    }
+                }
+            }
+            return ids;
+        });
     }
 
-    protected boolean update(String sql, Object... params) {
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = prepareStatement(conn, sql, params)) {
-
-            int affectedRows = pstmt.executeUpdate();
-            return affectedRows > 0;
-        } catch (SQLException e) {
-            error("Ошибка при обновлении: " + sql, e);
-            return false;
+    protected int[] updateBatch(String sql, List<Object[]> rows, int batchSize) {
+        validateBatchSize(batchSize);
+
+        if (rows.isEmpty()) {
+            return new int[0];
         }
+
+        return execute(sql, "Ошибка при выполнении пакетного обновления: ", new int[0], () -> {
+            int[] affected = new int[rows.size()];
+
+            try (Connection conn = getConnection()) {
+                boolean ownTransaction = conn.getAutoCommit();
+                if (ownTransaction) {
+                    conn.setAutoCommit(false);
+                }
+
+                try (PreparedStatement pstmt = prepareStatement(conn, sql, new Object[0])) {
+                    for (int from = 0; from < rows.size(); from += batchSize) {
+                        List<Object[]> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                        int[] counts = executeChunk(pstmt, chunk);
+                        System.arraycopy(counts, 0, affected, from, counts.length);
+                    }
+
+                    if (ownTransaction) {
+                        conn.commit();
+                    }
+                } catch (SQLException e) {
+                    if (ownTransaction) {
+                        conn.rollback();
+                    }
+                    throw e;
+                } finally {
+                    if (ownTransaction) {
+                        conn.setAutoCommit(true);
+                    }
+                }
+            }
+            return affected;
+        });
     }
 
     protected boolean delete(String sql, Object... params) {
         return update(sql, params);
     }
 
-    private PreparedStatement prepareStatement(Connection conn, String sql, Object[] params) throws SQLException {
-        return prepareStatement(conn, sql, params, 0);
+    private int[] executeChunk(PreparedStatement pstmt, List<Object[]> chunk) throws SQLException {
+        for (Object[] row : chunk) {
+            setParameters(pstmt, row);
+            pstmt.addBatch();
+        }
+        return pstmt.executeBatch();
     }
 
-    private PreparedStatement prepareStatement(Connection conn, String sql, Object[] params, int returnKeys) throws SQLException {
-        PreparedStatement pstmt;
-
-        if (returnKeys == 0) {
-            pstmt = conn.prepareStatement(sql);
-        } else {
-            pstmt = conn.prepareStatement(sql, returnKeys);
+    private void collectGeneratedKeys(PreparedStatement pstmt, List<Long> ids) throws SQLException {
+        try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+            while (generatedKeys.next()) {
+                ids.add(generatedKeys.getLong(1));
+            }
         }
+    }
 
-        setParameters(pstmt, params);
-        return pstmt;
-    }
-
-    private void setParameters(PreparedStatement pstmt, Object[] params) throws SQLException {
-        for (int i = 0; i < params.length; i++) {
-            switch (params[i]) {
-                case null -> pstmt.setNull(i + 1, Types.NULL);
-                case String string -> pstmt.setString(i + 1, string);
-                case Integer integer -> pstmt.setInt(i + 1, integer);
-                case Long longL -> pstmt.setLong(i + 1, longL);
-                case Double doubleD -> pstmt.setDouble(i + 1, doubleD);
-                case Boolean bool -> pstmt.setBoolean(i + 1, bool);
-                case Timestamp timestamp -> pstmt.setTimestamp(i + 1, timestamp);
-                case Date date -> pstmt.setDate(i + 1, date);
-                case java.math.BigDecimal bigDecimal -> pstmt.setBigDecimal(i + 1, bigDecimal);
-                default -> pstmt.setObject(i + 1, params[i]);
-            }
+    private String getCursorLabel() {
+        String idColumn = getIdColumn();
+        return idColumn.substring(idColumn.lastIndexOf('.') + 1).toUpperCase(Locale.ROOT);
+    }
+
+    protected static long startAfter(Long afterId) {
+        return afterId != null ? afterId : 0L;
+    }
+
+    private void validatePageSize(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Размер страницы должен быть положительным");
         }
     }
 
+    private void validateBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Размер пакета должен быть положительным");
+        }
+    }
 
     public Optional<T> findById(Long id) {
         String sql = "SELECT * FROM " + getTableName() + " WHERE ID = ?";
@@ -135,8 +233,20 @@ public abstract class Dao<T> {
     }
 
     public List<T> findAll() {
-        String sql = "SELECT * FROM " + getTableName();
-        return queryList(sql);
+        return queryList(getSelectSql());
+    }
+
+    public Optional<List<T>> tryFindAll() {
+        return tryQueryList(getSelectSql());
+    }
+
+    public Page<T> findPage(Long afterId, int limit) {
+        String sql = getSelectSql() + " WHERE " + getIdColumn() + " > ? ORDER BY " + getIdColumn() + " LIMIT ?";
+        return queryPage(sql, limit, startAfter(afterId));
+    }
+
+    public Stream<T> streamAll() {
+        return queryStream(getSelectSql());
     }
 
     public boolean deleteById(Long id) {
@@ -16,4 +16,6 @@ public class DbConstants {
     public static final String INCOME_TABLE = "INCOMES";
     public static final String PAYROLL_TABLE = "PAYROLLS";
     public static final String MONTHLY_BUDGET_TABLE = "MONTHLY_BUDGETS";
+    public static final String RECEIPT_TABLE = "RECEIPTS";
+    public static final String SALES_DAILY_SUMMARY_TABLE = "SALES_DAILY_SUMMARY";
 }
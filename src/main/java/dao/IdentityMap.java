@@ -0,0 +1,67 @@
+package dao;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class IdentityMap {
+    private static final ThreadLocal<IdentityMap> CURRENT = new ThreadLocal<>();
+
+    private final Map<Class<?>, Map<Long, Object>> entities = new HashMap<>();
+
+    private IdentityMap() {
+    }
+
+    public static void run(Runnable work) {
+        call(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public static <R> R call(Supplier<R> work) {
+        if (CURRENT.get() != null) {
+            return work.get();
+        }
+
+        CURRENT.set(new IdentityMap());
+        try {
+            return work.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    public static <T> Optional<T> find(Class<T> type, Long id, Function<Long, Optional<T>> loader) {
+        IdentityMap current = CURRENT.get();
+        if (current == null || id == null) {
+            return loader.apply(id);
+        }
+
+        Map<Long, Object> byId = current.entities.computeIfAbsent(type, key -> new HashMap<>());
+        Object loaded = byId.get(id);
+        if (loaded != null) {
+            return Optional.of(type.cast(loaded));
+        }
+
+        Optional<T> entity = loader.apply(id);
+        entity.ifPresent(value -> byId.put(id, value));
+        return entity;
+    }
+
+    public static void evict(Class<?> type, Long id) {
+        IdentityMap current = CURRENT.get();
+        if (current != null) {
+            Map<Long, Object> byId = current.entities.get(type);
+            if (byId != null) {
+                byId.remove(id);
+            }
+        }
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+}
\ No newline at end of file
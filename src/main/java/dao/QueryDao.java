@@ -0,0 +1,284 @@
+package dao;
+
+import dao.mapper.ColumnLayout;
+import dao.mapper.RowMapper;
+import util.DatabaseConnection;
+import util.Metrics;
+import util.SlowQueryLog;
+import util.StatementCache;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static util.LoggerUtil.error;
+
+public abstract class QueryDao<T> {
+    protected static final int DEFAULT_FETCH_SIZE = Integer.getInteger("mini_mart.query.fetchSize", 500);
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final Map<String, String> STATEMENT_LABELS = new ConcurrentHashMap<>();
+
+    protected abstract Function<ColumnLayout, RowMapper<T>> getMapper();
+
+    protected Connection getConnection() throws SQLException {
+        Connection shared = UnitOfWork.currentConnection();
+        if (shared != null) {
+            return shared;
+        }
+        return DatabaseConnection.getConnection();
+    }
+
+    protected Optional<T> querySingle(String sql, Object... params) {
+        long start = System.nanoTime();
+        Optional<T> result = execute(sql, "Ошибка при выполнении запроса: ", Optional.empty(), () -> {
+            try (Connection conn = getConnection();
+                 PreparedStatement pstmt = prepareStatement(conn, sql, params)) {
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        return Optional.of(rowMapper(sql, rs).mapRow(rs));
+                    }
+                }
+            }
+            return Optional.empty();
+        });
+        afterQuery(sql, params, System.nanoTime() - start);
+        return result;
+    }
+
+    protected List<T> queryList(String sql, Object... params) {
+        return tryQueryList(sql, params).orElseGet(ArrayList::new);
+    }
+
+    protected Optional<List<T>> tryQueryList(String sql, Object... params) {
+        long start = System.nanoTime();
+        Optional<List<T>> rows = execute(sql, "Ошибка при выполнении запроса: ", Optional.empty(), () -> {
+            List<T> result = new ArrayList<>();
+
+            try (Connection conn = getConnection();
+                 PreparedStatement pstmt = prepareStatement(conn, sql, params)) {
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    RowMapper<T> mapper = null;
+                    while (rs.next()) {
+                        if (mapper == null) {
+                            mapper = rowMapper(sql, rs);
+                        }
+                        result.add(mapper.mapRow(rs));
+                    }
+                }
+            }
+            return Optional.of(result);
+        });
+        afterQuery(sql, params, System.nanoTime() - start);
+        return rows;
+    }
+
+    protected <R> Optional<R> queryScalar(Class<R> type, String sql, Object... params) {
+        long start = System.nanoTime();
+        Optional<R> result = execute(sql, "Ошибка при выполнении запроса: ", Optional.empty(), () -> {
+            try (Connection conn = getConnection();
+                 PreparedStatement pstmt = prepareStatement(conn, sql, params)) {
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        return Optional.ofNullable(rs.getObject(1, type));
+                    }
+                }
+            }
+            return Optional.empty();
+        });
+        afterQuery(sql, params, System.nanoTime() - start);
+        return result;
+    }
+
+    protected Stream<T> queryStream(String sql, Object... params) {
+        return queryStream(DEFAULT_FETCH_SIZE, sql, params);
+    }
+
+    protected Stream<T> queryStream(int fetchSize, String sql, Object... params) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        long start = System.nanoTime();
+
+        try {
+            conn = getConnection();
+            pstmt = prepareStatement(conn, sql, params);
+            pstmt.setFetchSize(fetchSize);
+            rs = pstmt.executeQuery();
+        } catch (SQLException e) {
+            Metrics.record(statementLabel(sql), System.nanoTime() - start, true);
+            logFailure("Ошибка при выполнении запроса: " + sql, e);
+            closeQuietly(rs, pstmt, conn);
+            return Stream.empty();
+        }
+        Metrics.record(statementLabel(sql), System.nanoTime() - start, false);
+        afterQuery(sql, params, System.nanoTime() - start);
+
+        ResultSet cursor = rs;
+        AutoCloseable[] resources = {rs, pstmt, conn};
+
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private RowMapper<T> mapper;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!cursor.next()) {
+                        return false;
+                    }
+                    if (mapper == null) {
+                        mapper = rowMapper(sql, cursor);
+                    }
+                } catch (SQLException e) {
+                    logFailure("Ошибка при чтении результата запроса: " + sql, e);
+                    return false;
+                }
+                action.accept(mapper.mapRow(cursor));
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> closeQuietly(resources));
+    }
+
+    <R> R execute(String sql, String errorMessage, R fallback, SqlWork<R> work) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            R result = work.run();
+            failed = false;
+            return result;
+        } catch (SQLException e) {
+            logFailure(errorMessage + sql, e);
+            return fallback;
+        } finally {
+            Metrics.record(statementLabel(sql), System.nanoTime() - start, failed);
+        }
+    }
+
+    private String statementLabel(String sql) {
+        String label = STATEMENT_LABELS.get(sql);
+        if (label != null) {
+            return label;
+        }
+
+        label = STACK_WALKER.walk(frames -> frames
+                .takeWhile(frame -> QueryDao.class.isAssignableFrom(frame.getDeclaringClass()))
+                .reduce((first, second) -> second)
+                .map(frame -> getClass().getSimpleName() + "." + frame.getMethodName())
+                .orElse(getClass().getSimpleName()));
+        String existing = STATEMENT_LABELS.putIfAbsent(sql, label);
+        return existing != null ? existing : label;
+    }
+
+    void afterQuery(String sql, Object[] params, long elapsedNanos) {
+        if (QueryPlanCheck.isCapturing()) {
+            QueryPlanCheck.capture(statementLabel(sql), explain(sql, params, false), elapsedNanos);
+        }
+        if (!SlowQueryLog.isSlow(elapsedNanos)) {
+            return;
+        }
+        String plan = SlowQueryLog.shouldExplain(sql) ? explain(sql, params, true) : null;
+        SlowQueryLog.record(statementLabel(sql), sql, params, elapsedNanos, plan);
+    }
+
+    private String explain(String sql, Object[] params, boolean analyze) {
+        String prefix = analyze ? "EXPLAIN ANALYZE " : "EXPLAIN ";
+        try (Connection conn = getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(prefix + sql)) {
+
+            setParameters(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        } catch (SQLException e) {
+            error("Не удалось получить план запроса: " + sql, e);
+            return null;
+        }
+    }
+
+    PreparedStatement prepareStatement(Connection conn, String sql, Object[] params) throws SQLException {
+        return prepareStatement(conn, sql, params, 0);
+    }
+
+    PreparedStatement prepareStatement(Connection conn, String sql, Object[] params, int returnKeys) throws SQLException {
+        PreparedStatement pstmt;
+
+        if (conn.isWrapperFor(StatementCache.class)) {
+            pstmt = conn.unwrap(StatementCache.class).prepare(sql, returnKeys);
+        } else if (returnKeys == 0) {
+            pstmt = conn.prepareStatement(sql);
+        } else {
+            pstmt = conn.prepareStatement(sql, returnKeys);
+        }
+
+        try {
+            setParameters(pstmt, params);
+        } catch (SQLException e) {
+            pstmt.close();
+            throw e;
+        }
+        return pstmt;
+    }
+
+    private RowMapper<T> rowMapper(String sql, ResultSet rs) throws SQLException {
+        return getMapper().apply(ColumnLayout.of(sql, rs));
+    }
+
+    private void logFailure(String message, SQLException e) {
+        UnitOfWork.markRollbackOnly();
+        error(message, e);
+    }
+
+    private void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                error("Ошибка при освобождении ресурсов запроса", e);
+            }
+        }
+    }
+
+    void setParameters(PreparedStatement pstmt, Object[] params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            switch (params[i]) {
+                case null -> pstmt.setNull(i + 1, Types.NULL);
+                case String string -> pstmt.setString(i + 1, string);
+                case Integer integer -> pstmt.setInt(i + 1, integer);
+                case Long longL -> pstmt.setLong(i + 1, longL);
+                case Double doubleD -> pstmt.setDouble(i + 1, doubleD);
+                case Boolean bool -> pstmt.setBoolean(i + 1, bool);
+                case Timestamp timestamp -> pstmt.setTimestamp(i + 1, timestamp);
+                case Date date -> pstmt.setDate(i + 1, date);
+                case java.math.BigDecimal bigDecimal -> pstmt.setBigDecimal(i + 1, bigDecimal);
+                default -> pstmt.setObject(i + 1, params[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface SqlWork<R> {
+        R run() throws SQLException;
+    }
+}
\ No newline at end of file
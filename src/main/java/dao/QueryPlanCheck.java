@@ -0,0 +1,137 @@
+package dao;
+
+import dao.impl.BudgetSummaryDao;
+import dao.impl.ExpenseDao;
+import dao.impl.IncomeDao;
+import dao.impl.MonthlyBudgetDao;
+import dao.impl.PayrollDao;
+import dao.impl.PayrollStatsDao;
+import dao.impl.PurchaseDao;
+import dao.impl.SaleDao;
+import dao.impl.SalesAnalyticsDao;
+import dao.impl.SalesDailySummaryDao;
+import dao.impl.UserDao;
+import model.ExpenseSourceType;
+import model.FormattableEntity;
+import util.TableFormatter;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static util.ConsoleUtil.PAGE_SIZE;
+
+public class QueryPlanCheck {
+    private QueryPlanCheck() {}
+
+    private static final Pattern ACCESS_PATH = Pattern.compile("/\\*\\s*PUBLIC\\.([A-Za-z0-9_.]+)");
+    private static final String TABLE_SCAN = "tableScan";
+
+    private static final ThreadLocal<List<Result>> CAPTURED = new ThreadLocal<>();
+
+    public static List<Result> run() {
+        SaleDao saleDao = new SaleDao();
+        SalesDailySummaryDao summaryDao = new SalesDailySummaryDao();
+        SalesAnalyticsDao analyticsDao = new SalesAnalyticsDao();
+        ExpenseDao expenseDao = new ExpenseDao();
+        IncomeDao incomeDao = new IncomeDao();
+        PurchaseDao purchaseDao = new PurchaseDao();
+        PayrollDao payrollDao = new PayrollDao();
+        PayrollStatsDao payrollStatsDao = new PayrollStatsDao();
+        MonthlyBudgetDao budgetDao = new MonthlyBudgetDao();
+        BudgetSummaryDao budgetSummaryDao = new BudgetSummaryDao();
+        UserDao userDao = new UserDao();
+
+        Timestamp from = Timestamp.valueOf("2025-01-01 00:00:00");
+        Timestamp to = Timestamp.valueOf("2025-01-31 23:59:59");
+        Date monthStart = Date.valueOf("2025-01-01");
+        Date monthEnd = Date.valueOf("2025-01-31");
+
+        return capture(() -> {
+            saleDao.findByDateRange(from, to);
+            saleDao.findPageByDateRange(from, to, null, PAGE_SIZE);
+            summaryDao.findByDateRange(monthStart, monthEnd);
+            analyticsDao.findByCategory(from, to);
+            expenseDao.findByDateRange(from, to);
+            expenseDao.findPageByDateRange(from, to, null, PAGE_SIZE);
+            expenseDao.findUnlinkedByTotalAmountAndDate(BigDecimal.ONE, from);
+            expenseDao.findBySource(ExpenseSourceType.PURCHASE, 1L);
+            incomeDao.findByDateRange(from, to);
+            incomeDao.findPageByDateRange(from, to, null, PAGE_SIZE);
+            purchaseDao.findByDateRange(from, to);
+            payrollDao.findByPeriod(monthStart, monthEnd);
+            payrollDao.findUnpaidPayrolls();
+            payrollStatsDao.findByPeriod(monthStart, monthEnd);
+            budgetDao.findByDateRange(monthStart, monthEnd);
+            budgetDao.findByDate(monthStart);
+            budgetSummaryDao.findByDateRange(monthStart, monthEnd);
+            userDao.findByEmail("");
+        });
+    }
+
+    static boolean isCapturing() {
+        return CAPTURED.get() != null;
+    }
+
+    static void capture(String label, String plan, long elapsedNanos) {
+        List<Result> results = CAPTURED.get();
+        if (results != null) {
+            results.add(new Result(label, accessPath(plan), elapsedNanos / 1_000_000.0));
+        }
+    }
+
+    private static List<Result> capture(Runnable queries) {
+        List<Result> results = new ArrayList<>();
+        CAPTURED.set(results);
+        try {
+            queries.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return results;
+    }
+
+    private static String accessPath(String plan) {
+        if (plan == null) {
+            return null;
+        }
+        Matcher matcher = ACCESS_PATH.matcher(plan);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    public record Result(String label, String accessPath, double millis) implements FormattableEntity {
+        private static final int LABEL_WIDTH = 40;
+        private static final int PATH_WIDTH = 40;
+        private static final int STATUS_WIDTH = 10;
+        private static final int MILLIS_WIDTH = 10;
+
+        public boolean usesIndex() {
+            return accessPath != null && !accessPath.endsWith(TABLE_SCAN);
+        }
+
+        @Override
+        public String getTableHeader() {
+            return TableFormatter.formatCell("Запрос", LABEL_WIDTH) +
+                    TableFormatter.formatCell("Доступ к таблице", PATH_WIDTH) +
+                    TableFormatter.formatCell("Индекс", STATUS_WIDTH) +
+                    TableFormatter.formatCell("Время, мс", MILLIS_WIDTH);
+        }
+
+        @Override
+        public String toTableRow() {
+            return TableFormatter.formatCell(label, LABEL_WIDTH) +
+                    TableFormatter.formatCell(accessPath, PATH_WIDTH) +
+                    TableFormatter.formatCell(usesIndex() ? "да" : "НЕТ", STATUS_WIDTH) +
+                    TableFormatter.formatCell(String.format("%.2f", millis), MILLIS_WIDTH);
+        }
+
+        @Override
+        public String getTableDivider() {
+            return TableFormatter.createDivider(LABEL_WIDTH, PATH_WIDTH, STATUS_WIDTH, MILLIS_WIDTH);
+        }
+    }
+}
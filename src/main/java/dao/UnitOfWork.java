@@ -0,0 +1,157 @@
+package dao;
+
+import exception.TransactionException;
+import util.DatabaseConnection;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static util.LoggerUtil.error;
+
+public final class UnitOfWork {
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final Connection connection;
+    private final Connection participant;
+    private final List<Runnable> afterCommit = new ArrayList<>();
+    private boolean rollbackOnly;
+
+    private UnitOfWork(Connection connection) {
+        this.connection = connection;
+        this.participant = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close")) {
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    public static void run(Runnable work) {
+        call(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public static <R> R call(Supplier<R> work) {
+        UnitOfWork current = CURRENT.get();
+        if (current != null) {
+            try {
+                return work.get();
+            } catch (RuntimeException | Error e) {
+                current.rollbackOnly = true;
+                throw e;
+            }
+        }
+
+        UnitOfWork unit = begin();
+        CURRENT.set(unit);
+        R result;
+        try {
+            result = work.get();
+            unit.complete();
+        } catch (RuntimeException | Error e) {
+            unit.rollback();
+            throw e;
+        } finally {
+            CURRENT.remove();
+            unit.close();
+        }
+
+        unit.runAfterCommit();
+        return result;
+    }
+
+    public static void afterCommit(Runnable action) {
+        UnitOfWork current = CURRENT.get();
+        if (current == null) {
+            action.run();
+            return;
+        }
+        current.afterCommit.add(action);
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static Connection currentConnection() {
+        UnitOfWork current = CURRENT.get();
+        return current != null ? current.participant : null;
+    }
+
+    static void markRollbackOnly() {
+        UnitOfWork current = CURRENT.get();
+        if (current != null) {
+            current.rollbackOnly = true;
+        }
+    }
+
+    private static UnitOfWork begin() {
+        Connection connection = null;
+        try {
+            connection = DatabaseConnection.getConnection();
+            connection.setAutoCommit(false);
+            return new UnitOfWork(connection);
+        } catch (SQLException e) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException closeError) {
+                    e.addSuppressed(closeError);
+                }
+            }
+            throw new TransactionException("Не удалось начать транзакцию", e);
+        }
+    }
+
+    private void complete() {
+        if (rollbackOnly) {
+            throw new TransactionException("Операция отменена из-за ошибки при работе с базой данных");
+        }
+
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            throw new TransactionException("Не удалось зафиксировать транзакцию", e);
+        }
+    }
+
+    private void runAfterCommit() {
+        for (Runnable action : afterCommit) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                error("Ошибка при выполнении действия после фиксации транзакции", e);
+            }
+        }
+    }
+
+    private void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            error("Ошибка при откате транзакции", e);
+        }
+    }
+
+    private void close() {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            error("Ошибка при возврате соединения транзакции", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package dao.impl;
+
+import dao.QueryDao;
+import dao.mapper.BudgetSummaryMapper;
+import dao.mapper.ColumnLayout;
+import dao.mapper.RowMapper;
+import model.BudgetSummary;
+
+import java.sql.Date;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static dao.DbConstants.*;
+
+public class BudgetSummaryDao extends QueryDao<BudgetSummary> {
+    private static final String SUMMARY_SQL = "SELECT " +
+            "COALESCE(SUM(PLANNED_INCOME), 0) AS PLANNED_INCOME, " +
+            "COALESCE(SUM(PLANNED_EXPENSES), 0) AS PLANNED_EXPENSES, " +
+            "COALESCE(SUM(ACTUAL_INCOME), 0) AS ACTUAL_INCOME, " +
+            "COALESCE(SUM(ACTUAL_EXPENSES), 0) AS ACTUAL_EXPENSES, " +
+            "COUNT(*) AS MONTHS " +
+            "FROM " + MONTHLY_BUDGET_TABLE +
+            " WHERE BUDGET_DATE BETWEEN ? AND ?";
+
+    @Override
+    protected Function<ColumnLayout, RowMapper<BudgetSummary>> getMapper() {
+        return BudgetSummaryMapper::forLayout;
+    }
+
+    public Optional<BudgetSummary> findByDateRange(Date startDate, Date endDate) {
+        return querySingle(SUMMARY_SQL, startDate, endDate);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package dao.impl;
+
+import dao.QueryDao;
+import dao.mapper.ColumnLayout;
+import dao.mapper.DailyTotalMapper;
+import dao.mapper.RowMapper;
+import model.DailyTotal;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static dao.DbConstants.*;
+
+public class DailyTotalDao extends QueryDao<DailyTotal> {
+    private final String tableName;
+    private final String dateColumn;
+
+    private DailyTotalDao(String tableName, String dateColumn) {
+        this.tableName = tableName;
+        this.dateColumn = dateColumn;
+    }
+
+    public static DailyTotalDao incomes() {
+        return new DailyTotalDao(INCOME_TABLE, "INCOME_DATE");
+    }
+
+    public static DailyTotalDao expenses() {
+        return new DailyTotalDao(EXPENSE_TABLE, "EXPENSE_DATE");
+    }
+
+    @Override
+    protected Function<ColumnLayout, RowMapper<DailyTotal>> getMapper() {
+        return DailyTotalMapper::forLayout;
+    }
+
+    public Optional<List<DailyTotal>> sumByDay() {
+        String sql = "SELECT CAST(" + dateColumn + " AS DATE) AS TOTAL_DAY, SUM(TOTAL_AMOUNT) AS TOTAL_AMOUNT " +
+                "FROM " + tableName +
+                " GROUP BY CAST(" + dateColumn + " AS DATE)";
+        return tryQueryList(sql);
+    }
+}
\ No newline at end of file
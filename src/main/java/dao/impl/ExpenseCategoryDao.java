@@ -1,10 +1,11 @@
 package dao.impl;
 
 import dao.Dao;
-import model.ExpenseCategory;
+import dao.mapper.ColumnLayout;
 import dao.mapper.ExpenseCategoryMapper;
+import dao.mapper.RowMapper;
+import model.ExpenseCategory;
 
-import java.sql.ResultSet;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -18,8 +19,8 @@ public class ExpenseCategoryDao extends Dao<ExpenseCategory> {
     }
 
     @Override
-    protected Function<ResultSet, ExpenseCategory> getMapper() {
-        return ExpenseCategoryMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<ExpenseCategory>> getMapper() {
+        return ExpenseCategoryMapper::forLayout;
     }
 
     public Optional<ExpenseCategory> findByName(String name) {
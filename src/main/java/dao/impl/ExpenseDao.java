@@ -1,19 +1,37 @@
 package dao.impl;
 
 import dao.Dao;
-import model.Expense;
+import dao.Page;
+import dao.mapper.ColumnLayout;
 import dao.mapper.ExpenseMapper;
+import dao.mapper.RowMapper;
+import model.Expense;
+import model.ExpenseSourceType;
 
 import java.math.BigDecimal;
-import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static dao.DbConstants.*;
 public class ExpenseDao extends Dao<Expense> {
+    private static final String SELECT_ALL_SQL = "SELECT e.*, " +
+            "c.NAME as CATEGORY_NAME, " +
+            "u.NAME as ACCOUNTANT_NAME, u.SURNAME as ACCOUNTANT_SURNAME " +
+            "FROM " + EXPENSE_TABLE + " e " +
+            "LEFT JOIN " + EXPENSE_CATEGORY_TABLE + " c ON e.CATEGORY_ID = c.ID " +
+            "LEFT JOIN " + USER_TABLE + " u ON e.ACCOUNTANT_ID = u.ID";
+
+    private static final String INSERT_SQL = "INSERT INTO " + EXPENSE_TABLE +
+            " (CATEGORY_ID, TOTAL_AMOUNT, EXPENSE_DATE, ACCOUNTANT_ID, SOURCE_TYPE, SOURCE_ID) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE " + EXPENSE_TABLE +
+            " SET CATEGORY_ID = ?, TOTAL_AMOUNT = ?, " +
+            "EXPENSE_DATE = ?, ACCOUNTANT_ID = ? WHERE ID = ?";
 
     @Override
     protected String getTableName() {
@@ -21,8 +39,8 @@ public class ExpenseDao extends Dao<Expense> {
     }
 
     @Override
-    protected Function<ResultSet, Expense> getMapper() {
-        return ExpenseMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<Expense>> getMapper() {
+        return ExpenseMapper::forLayout;
     }
 
     @Override
@@ -37,26 +55,30 @@ public class ExpenseDao extends Dao<Expense> {
         return querySingle(sql, id);
     }
 
-    public Optional<Expense> findByTotalAmountAndDate(BigDecimal totalAmount, Timestamp date) {
+    public Optional<Expense> findUnlinkedByTotalAmountAndDate(BigDecimal totalAmount, Timestamp date) {
         String sql = "SELECT e.*, " +
                 "c.NAME as CATEGORY_NAME, " +
                 "u.NAME as ACCOUNTANT_NAME, u.SURNAME as ACCOUNTANT_SURNAME " +
                 "FROM " + EXPENSE_TABLE + " e " +
                 "LEFT JOIN " + EXPENSE_CATEGORY_TABLE + " c ON e.CATEGORY_ID = c.ID " +
                 "LEFT JOIN " + USER_TABLE + " u ON e.ACCOUNTANT_ID = u.ID " +
-                "WHERE e.TOTAL_AMOUNT = ? AND e.EXPENSE_DATE = ?";
+                "WHERE e.TOTAL_AMOUNT = ? AND e.EXPENSE_DATE = ? AND e.SOURCE_TYPE IS NULL";
         return querySingle(sql, totalAmount, date);
     }
 
+    public Optional<Expense> findBySource(ExpenseSourceType sourceType, Long sourceId) {
+        String sql = SELECT_ALL_SQL + " WHERE e.SOURCE_TYPE = ? AND e.SOURCE_ID = ?";
+        return querySingle(sql, sourceType.name(), sourceId);
+    }
+
     @Override
-    public List<Expense> findAll() {
-        String sql = "SELECT e.*, " +
-                "c.NAME as CATEGORY_NAME, " +
-                "u.NAME as ACCOUNTANT_NAME, u.SURNAME as ACCOUNTANT_SURNAME " +
-                "FROM " + EXPENSE_TABLE + " e " +
-                "LEFT JOIN " + EXPENSE_CATEGORY_TABLE + " c ON e.CATEGORY_ID = c.ID " +
-                "LEFT JOIN " + USER_TABLE + " u ON e.ACCOUNTANT_ID = u.ID";
-        return queryList(sql);
+    protected String getSelectSql() {
+        return SELECT_ALL_SQL;
+    }
+
+    @Override
+    protected String getIdColumn() {
+        return "e.ID";
     }
 
     public List<Expense> findByCategory(Long categoryId) {
@@ -81,16 +103,23 @@ public class ExpenseDao extends Dao<Expense> {
         return queryList(sql, startDate, endDate);
     }
 
+    public Stream<Expense> streamByDateRange(Timestamp startDate, Timestamp endDate) {
+        String sql = SELECT_ALL_SQL +
+                " WHERE e.EXPENSE_DATE BETWEEN ? AND ?" +
+                " ORDER BY e.ID";
+        return queryStream(sql, startDate, endDate);
+    }
+
+    public Page<Expense> findPageByDateRange(Timestamp startDate, Timestamp endDate, Long afterId, int limit) {
+        String sql = SELECT_ALL_SQL +
+                " WHERE e.EXPENSE_DATE BETWEEN ? AND ? AND e.ID > ?" +
+                " ORDER BY e.ID LIMIT ?";
+        return queryPage(sql, limit, startDate, endDate, startAfter(afterId));
+    }
+
     public Long save(Expense expense) {
         if (expense.getId() == null) {
-            String sql = "INSERT INTO " + EXPENSE_TABLE +
-                    " (CATEGORY_ID, TOTAL_AMOUNT, EXPENSE_DATE, ACCOUNTANT_ID) " +
-                    "VALUES (?, ?, ?, ?)";
-            Long id = insert(sql,
-                    expense.getCategory().id(),
-                    expense.getTotalAmount(),
-                    expense.getExpenseDate() != null ? expense.getExpenseDate() : Timestamp.from(Instant.now()),
-                    expense.getAccountant().getId());
+            Long id = insert(INSERT_SQL, insertParams(expense));
             if (id != null) {
                 expense.setId(id);
             }
@@ -101,15 +130,48 @@ public class ExpenseDao extends Dao<Expense> {
         }
     }
 
+    public List<Long> saveAll(List<Expense> expenses) {
+        return saveAll(expenses, DEFAULT_BATCH_SIZE);
+    }
+
+    public List<Long> saveAll(List<Expense> expenses, int batchSize) {
+        List<Long> ids = insertBatch(INSERT_SQL, expenses.stream().map(this::insertParams).toList(), batchSize);
+        for (int i = 0; i < ids.size(); i++) {
+            expenses.get(i).setId(ids.get(i));
+        }
+        return ids;
+    }
+
     public boolean update(Expense expense) {
-        String sql = "UPDATE " + EXPENSE_TABLE +
-                " SET CATEGORY_ID = ?, TOTAL_AMOUNT = ?, " +
-                "EXPENSE_DATE = ?, ACCOUNTANT_ID = ? WHERE ID = ?";
-        return update(sql,
+        return update(UPDATE_SQL, updateParams(expense));
+    }
+
+    public int[] updateAll(List<Expense> expenses) {
+        return updateAll(expenses, DEFAULT_BATCH_SIZE);
+    }
+
+    public int[] updateAll(List<Expense> expenses, int batchSize) {
+        return updateBatch(UPDATE_SQL, expenses.stream().map(this::updateParams).toList(), batchSize);
+    }
+
+    private Object[] insertParams(Expense expense) {
+        return new Object[]{
+                expense.getCategory().id(),
+                expense.getTotalAmount(),
+                expense.getExpenseDate() != null ? expense.getExpenseDate() : Timestamp.from(Instant.now()),
+                expense.getAccountant().getId(),
+                expense.getSourceType() != null ? expense.getSourceType().name() : null,
+                expense.getSourceId()
+        };
+    }
+
+    private Object[] updateParams(Expense expense) {
+        return new Object[]{
                 expense.getCategory().id(),
                 expense.getTotalAmount(),
                 expense.getExpenseDate(),
                 expense.getAccountant().getId(),
-                expense.getId());
+                expense.getId()
+        };
     }
 }
\ No newline at end of file
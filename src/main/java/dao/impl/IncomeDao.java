@@ -1,26 +1,44 @@
 package dao.impl;
 
 import dao.Dao;
-import model.Income;
+import dao.Page;
+import dao.mapper.ColumnLayout;
 import dao.mapper.IncomeMapper;
+import dao.mapper.RowMapper;
+import model.Income;
 
-import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static dao.DbConstants.*;
 
 public class IncomeDao extends Dao<Income> {
+    private static final String SELECT_ALL_SQL = "SELECT i.*, " +
+            "s.NAME as SOURCE_NAME, " +
+            "u.NAME as ACCOUNTANT_NAME, u.SURNAME as ACCOUNTANT_SURNAME " +
+            "FROM " + INCOME_TABLE + " i " +
+            "LEFT JOIN " + INCOME_SOURCE_TABLE + " s ON i.SOURCE_ID = s.ID " +
+            "LEFT JOIN " + USER_TABLE + " u ON i.ACCOUNTANT_ID = u.ID";
+
+    private static final String INSERT_SQL = "INSERT INTO " + INCOME_TABLE +
+            " (SOURCE_ID, TOTAL_AMOUNT, INCOME_DATE, ACCOUNTANT_ID) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE " + INCOME_TABLE +
+            " SET SOURCE_ID = ?, TOTAL_AMOUNT = ?, " +
+            "INCOME_DATE = ?, ACCOUNTANT_ID = ? WHERE ID = ?";
+
     @Override
     protected String getTableName() {
         return INCOME_TABLE;
     }
 
     @Override
-    protected Function<ResultSet, Income> getMapper() {
-        return IncomeMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<Income>> getMapper() {
+        return IncomeMapper::forLayout;
     }
 
     @Override
@@ -36,14 +54,13 @@ public class IncomeDao extends Dao<Income> {
     }
 
     @Override
-    public List<Income> findAll() {
-        String sql = "SELECT i.*, " +
-                "s.NAME as SOURCE_NAME, " +
-                "u.NAME as ACCOUNTANT_NAME, u.SURNAME as ACCOUNTANT_SURNAME " +
-                "FROM " + INCOME_TABLE + " i " +
-                "LEFT JOIN " + INCOME_SOURCE_TABLE + " s ON i.SOURCE_ID = s.ID " +
-                "LEFT JOIN " + USER_TABLE + " u ON i.ACCOUNTANT_ID = u.ID";
-        return queryList(sql);
+    protected String getSelectSql() {
+        return SELECT_ALL_SQL;
+    }
+
+    @Override
+    protected String getIdColumn() {
+        return "i.ID";
     }
 
     public List<Income> findBySource(Long sourceId) {
@@ -68,16 +85,23 @@ public class IncomeDao extends Dao<Income> {
         return queryList(sql, startDate, endDate);
     }
 
+    public Stream<Income> streamByDateRange(Timestamp startDate, Timestamp endDate) {
+        String sql = SELECT_ALL_SQL +
+                " WHERE i.INCOME_DATE BETWEEN ? AND ?" +
+                " ORDER BY i.ID";
+        return queryStream(sql, startDate, endDate);
+    }
+
+    public Page<Income> findPageByDateRange(Timestamp startDate, Timestamp endDate, Long afterId, int limit) {
+        String sql = SELECT_ALL_SQL +
+                " WHERE i.INCOME_DATE BETWEEN ? AND ? AND i.ID > ?" +
+                " ORDER BY i.ID LIMIT ?";
+        return queryPage(sql, limit, startDate, endDate, startAfter(afterId));
+    }
+
     public Long save(Income income) {
         if (income.getId() == null) {
-            String sql = "INSERT INTO " + INCOME_TABLE +
-                    " (SOURCE_ID, TOTAL_AMOUNT, INCOME_DATE, ACCOUNTANT_ID) " +
-                    "VALUES (?, ?, ?, ?)";
-            Long id = insert(sql,
-                    income.getSource().id(),
-                    income.getTotalAmount(),
-                    income.getIncomeDate(),
-                    income.getAccountant().getId());
+            Long id = insert(INSERT_SQL, insertParams(income));
             if (id != null) {
                 income.setId(id);
             }
@@ -88,15 +112,46 @@ public class IncomeDao extends Dao<Income> {
         }
     }
 
+    public List<Long> saveAll(List<Income> incomes) {
+        return saveAll(incomes, DEFAULT_BATCH_SIZE);
+    }
+
+    public List<Long> saveAll(List<Income> incomes, int batchSize) {
+        List<Long> ids = insertBatch(INSERT_SQL, incomes.stream().map(this::insertParams).toList(), batchSize);
+        for (int i = 0; i < ids.size(); i++) {
+            incomes.get(i).setId(ids.get(i));
+        }
+        return ids;
+    }
+
     public boolean update(Income income) {
-        String sql = "UPDATE " + INCOME_TABLE +
-                " SET SOURCE_ID = ?, TOTAL_AMOUNT = ?, " +
-                "INCOME_DATE = ?, ACCOUNTANT_ID = ? WHERE ID = ?";
-        return update(sql,
+        return update(UPDATE_SQL, updateParams(income));
+    }
+
+    public int[] updateAll(List<Income> incomes) {
+        return updateAll(incomes, DEFAULT_BATCH_SIZE);
+    }
+
+    public int[] updateAll(List<Income> incomes, int batchSize) {
+        return updateBatch(UPDATE_SQL, incomes.stream().map(this::updateParams).toList(), batchSize);
+    }
+
+    private Object[] insertParams(Income income) {
+        return new Object[]{
+                income.getSource().id(),
+                income.getTotalAmount(),
+                income.getIncomeDate(),
+                income.getAccountant().getId()
+        };
+    }
+
+    private Object[] updateParams(Income income) {
+        return new Object[]{
                 income.getSource().id(),
                 income.getTotalAmount(),
                 income.getIncomeDate(),
                 income.getAccountant().getId(),
-                income.getId());
+                income.getId()
+        };
     }
 }
\ No newline at end of file
@@ -1,10 +1,11 @@
 package dao.impl;
 
 import dao.Dao;
-import model.IncomeSource;
+import dao.mapper.ColumnLayout;
 import dao.mapper.IncomeSourceMapper;
+import dao.mapper.RowMapper;
+import model.IncomeSource;
 
-import java.sql.ResultSet;
 import java.util.Optional;
 import java.util.function.Function;
 import static dao.DbConstants.INCOME_SOURCE_TABLE;
@@ -17,8 +18,8 @@ public class IncomeSourceDao extends Dao<IncomeSource> {
     }
     
     @Override
-    protected Function<ResultSet, IncomeSource> getMapper() {
-        return IncomeSourceMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<IncomeSource>> getMapper() {
+        return IncomeSourceMapper::forLayout;
     }
     
     public Optional<IncomeSource> findByName(String name) {
@@ -1,11 +1,14 @@
 package dao.impl;
 
 import dao.Dao;
-import model.MonthlyBudget;
+import dao.mapper.ColumnLayout;
 import dao.mapper.MonthlyBudgetMapper;
+import dao.mapper.RowMapper;
+import model.BudgetDelta;
+import model.MonthlyBudget;
+import model.Role;
 
 import java.sql.Date;
-import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
@@ -14,14 +17,29 @@ import java.util.function.Function;
 import static dao.DbConstants.*;
 
 public class MonthlyBudgetDao extends Dao<MonthlyBudget> {
+    private static final String ADD_ACTUALS_SQL = "MERGE INTO " + MONTHLY_BUDGET_TABLE + " mb " +
+            "USING (SELECT CAST(? AS DATE) AS BUDGET_DATE, " +
+            "CAST(? AS DECIMAL(10, 2)) AS INCOME_DELTA, " +
+            "CAST(? AS DECIMAL(10, 2)) AS EXPENSE_DELTA, " +
+            "COALESCE(CAST(? AS BIGINT), (SELECT u.ID FROM " + USER_TABLE + " u " +
+            "JOIN " + ROLE_TABLE + " r ON u.ROLE_ID = r.ID " +
+            "WHERE r.NAME = ? ORDER BY u.ENABLED DESC, u.ID LIMIT 1)) AS DIRECTOR_ID) d " +
+            "ON mb.BUDGET_DATE = d.BUDGET_DATE " +
+            "WHEN MATCHED THEN UPDATE SET " +
+            "ACTUAL_INCOME = mb.ACTUAL_INCOME + d.INCOME_DELTA, " +
+            "ACTUAL_EXPENSES = mb.ACTUAL_EXPENSES + d.EXPENSE_DELTA, " +
+            "UPDATED_AT = CURRENT_TIMESTAMP " +
+            "WHEN NOT MATCHED THEN INSERT (BUDGET_DATE, ACTUAL_INCOME, ACTUAL_EXPENSES, DIRECTOR_ID) " +
+            "VALUES (d.BUDGET_DATE, d.INCOME_DELTA, d.EXPENSE_DELTA, d.DIRECTOR_ID)";
+
     @Override
     protected String getTableName() {
         return MONTHLY_BUDGET_TABLE;
     }
 
     @Override
-    protected Function<ResultSet, MonthlyBudget> getMapper() {
-        return MonthlyBudgetMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<MonthlyBudget>> getMapper() {
+        return MonthlyBudgetMapper::forLayout;
     }
 
     @Override
@@ -34,11 +52,15 @@ public class MonthlyBudgetDao extends Dao<MonthlyBudget> {
     }
 
     @Override
-    public List<MonthlyBudget> findAll() {
-        String sql = "SELECT mb.*, u.NAME as DIRECTOR_NAME, u.SURNAME as DIRECTOR_SURNAME " +
+    protected String getSelectSql() {
+        return "SELECT mb.*, u.NAME as DIRECTOR_NAME, u.SURNAME as DIRECTOR_SURNAME " +
                 "FROM " + MONTHLY_BUDGET_TABLE + " mb " +
                 "LEFT JOIN " + USER_TABLE + " u ON mb.DIRECTOR_ID = u.ID";
-        return queryList(sql);
+    }
+
+    @Override
+    protected String getIdColumn() {
+        return "mb.ID";
     }
 
     public List<MonthlyBudget> findByDateRange(Date startDate, Date endDate) {
@@ -90,16 +112,27 @@ public class MonthlyBudgetDao extends Dao<MonthlyBudget> {
 
         String sql = "UPDATE " + MONTHLY_BUDGET_TABLE +
                 " SET BUDGET_DATE = ?, PLANNED_INCOME = ?, PLANNED_EXPENSES = ?, " +
-                "ACTUAL_INCOME = ?, ACTUAL_EXPENSES = ?, " +
                 "UPDATED_AT = ?, DIRECTOR_ID = ? WHERE ID = ?";
         return update(sql,
                 budget.getBudgetDate(),
                 budget.getPlannedIncome(),
                 budget.getPlannedExpenses(),
-                budget.getActualIncome(),
-                budget.getActualExpenses(),
                 now,
                 budget.getDirector().getId(),
                 budget.getId());
     }
+
+    public int[] addActuals(List<BudgetDelta> deltas) {
+        return updateBatch(ADD_ACTUALS_SQL, deltas.stream().map(this::addActualsParams).toList(), DEFAULT_BATCH_SIZE);
+    }
+
+    private Object[] addActualsParams(BudgetDelta delta) {
+        return new Object[]{
+                Date.valueOf(delta.budgetDate()),
+                delta.incomeDelta(),
+                delta.expenseDelta(),
+                delta.directorId(),
+                Role.DIRECTOR
+        };
+    }
 }
\ No newline at end of file
@@ -1,11 +1,12 @@
 package dao.impl;
 
 import dao.Dao;
-import model.Payroll;
+import dao.mapper.ColumnLayout;
 import dao.mapper.PayrollMapper;
+import dao.mapper.RowMapper;
+import model.Payroll;
 
 import java.sql.Date;
-import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +14,17 @@ import java.util.function.Function;
 
 import static dao.DbConstants.*;
 public class PayrollDao extends Dao<Payroll> {
+    private static final String INSERT_SQL = "INSERT INTO " + PAYROLL_TABLE +
+            " (EMPLOYEE_ID, ACCOUNTANT_ID, HOURS_WORKED, HOURLY_RATE, " +
+            " PERIOD_START, PERIOD_END, PAYMENT_DATE, " +
+            "IS_PAID, CREATED_AT, UPDATED_AT) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE " + PAYROLL_TABLE +
+            " SET EMPLOYEE_ID = ?, ACCOUNTANT_ID = ?, HOURS_WORKED = ?, " +
+            "HOURLY_RATE = ?, PERIOD_START = ?, " +
+            "PERIOD_END = ?, PAYMENT_DATE = ?, IS_PAID = ?, " +
+            "UPDATED_AT = ? WHERE ID = ?";
 
     @Override
     protected String getTableName() {
@@ -20,8 +32,8 @@ public class PayrollDao extends Dao<Payroll> {
     }
 
     @Override
-    protected Function<ResultSet, Payroll> getMapper() {
-        return PayrollMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<Payroll>> getMapper() {
+        return PayrollMapper::forLayout;
     }
 
     @Override
@@ -37,14 +49,18 @@ public class PayrollDao extends Dao<Payroll> {
     }
 
     @Override
-    public List<Payroll> findAll() {
-        String sql = "SELECT p.*, " +
+    protected String getSelectSql() {
+        return "SELECT p.*, " +
                 "e.NAME as EMPLOYEE_NAME, e.SURNAME as EMPLOYEE_SURNAME, " +
                 "a.NAME as ACCOUNTANT_NAME, a.SURNAME as ACCOUNTANT_SURNAME " +
                 "FROM " + PAYROLL_TABLE + " p " +
                 "LEFT JOIN " + USER_TABLE + " e ON p.EMPLOYEE_ID = e.ID " +
                 "LEFT JOIN " + USER_TABLE + " a ON p.ACCOUNTANT_ID = a.ID";
-        return queryList(sql);
+    }
+
+    @Override
+    protected String getIdColumn() {
+        return "p.ID";
     }
 
     public List<Payroll> findUnpaidPayrolls() {
@@ -73,22 +89,7 @@ public class PayrollDao extends Dao<Payroll> {
         if (payroll.getId() == null) {
             Timestamp now = new Timestamp(System.currentTimeMillis());
 
-            String sql = "INSERT INTO " + PAYROLL_TABLE +
-                    " (EMPLOYEE_ID, ACCOUNTANT_ID, HOURS_WORKED, HOURLY_RATE, " +
-                    " PERIOD_START, PERIOD_END, PAYMENT_DATE, " +
-                    "IS_PAID, CREATED_AT, UPDATED_AT) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-            Long id = insert(sql,
-                    payroll.getEmployee().getId(),
-                    payroll.getAccountant().getId(),
-                    payroll.getHoursWorked(),
-                    payroll.getHourlyRate(),
-                    payroll.getPeriodStart(),
-                    payroll.getPeriodEnd(),
-                    payroll.getPaymentDate(),
-                    payroll.isPaid(),
-                    payroll.getCreatedAt() != null ? payroll.getCreatedAt() : now,
-                    payroll.getUpdatedAt() != null ? payroll.getUpdatedAt() : now);
+            Long id = insert(INSERT_SQL, insertParams(payroll, now));
             if (id != null) {
                 payroll.setId(id);
             }
@@ -99,15 +100,51 @@ public class PayrollDao extends Dao<Payroll> {
         }
     }
 
+    public List<Long> saveAll(List<Payroll> payrolls) {
+        return saveAll(payrolls, DEFAULT_BATCH_SIZE);
+    }
+
+    public List<Long> saveAll(List<Payroll> payrolls, int batchSize) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Long> ids = insertBatch(INSERT_SQL, payrolls.stream().map(payroll -> insertParams(payroll, now)).toList(), batchSize);
+        for (int i = 0; i < ids.size(); i++) {
+            payrolls.get(i).setId(ids.get(i));
+        }
+        return ids;
+    }
+
     public boolean update(Payroll payroll) {
         Timestamp now = new Timestamp(System.currentTimeMillis());
 
-        String sql = "UPDATE " + PAYROLL_TABLE +
-                " SET EMPLOYEE_ID = ?, ACCOUNTANT_ID = ?, HOURS_WORKED = ?, " +
-                "HOURLY_RATE = ?, PERIOD_START = ?, " +
-                "PERIOD_END = ?, PAYMENT_DATE = ?, IS_PAID = ?, " +
-                "UPDATED_AT = ? WHERE ID = ?";
-        return update(sql,
+        return update(UPDATE_SQL, updateParams(payroll, now));
+    }
+
+    public int[] updateAll(List<Payroll> payrolls) {
+        return updateAll(payrolls, DEFAULT_BATCH_SIZE);
+    }
+
+    public int[] updateAll(List<Payroll> payrolls, int batchSize) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return updateBatch(UPDATE_SQL, payrolls.stream().map(payroll -> updateParams(payroll, now)).toList(), batchSize);
+    }
+
+    private Object[] insertParams(Payroll payroll, Timestamp now) {
+        return new Object[]{
+                payroll.getEmployee().getId(),
+                payroll.getAccountant().getId(),
+                payroll.getHoursWorked(),
+                payroll.getHourlyRate(),
+                payroll.getPeriodStart(),
+                payroll.getPeriodEnd(),
+                payroll.getPaymentDate(),
+                payroll.isPaid(),
+                payroll.getCreatedAt() != null ? payroll.getCreatedAt() : now,
+                payroll.getUpdatedAt() != null ? payroll.getUpdatedAt() : now
+        };
+    }
+
+    private Object[] updateParams(Payroll payroll, Timestamp now) {
+        return new Object[]{
                 payroll.getEmployee().getId(),
                 payroll.getAccountant().getId(),
                 payroll.getHoursWorked(),
@@ -117,7 +154,8 @@ public class PayrollDao extends Dao<Payroll> {
                 payroll.getPaymentDate(),
                 payroll.isPaid(),
                 now,
-                payroll.getId());
+                payroll.getId()
+        };
     }
 
     public boolean markAsPaid(Long id, Date paymentDate) {
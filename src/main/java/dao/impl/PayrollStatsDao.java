@@ -0,0 +1,36 @@
+package dao.impl;
+
+import dao.QueryDao;
+import dao.mapper.ColumnLayout;
+import dao.mapper.EmployeePayrollStatsMapper;
+import dao.mapper.RowMapper;
+import model.EmployeePayrollStats;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import static dao.DbConstants.*;
+
+public class PayrollStatsDao extends QueryDao<EmployeePayrollStats> {
+    private static final String STATS_BY_PERIOD_SQL = "SELECT p.EMPLOYEE_ID, " +
+            "e.NAME as EMPLOYEE_NAME, e.SURNAME as EMPLOYEE_SURNAME, " +
+            "COUNT(*) AS PAYROLL_COUNT, " +
+            "SUM(CASE WHEN p.IS_PAID THEN 1 ELSE 0 END) AS PAID_COUNT, " +
+            "COALESCE(SUM(p.TOTAL_AMOUNT), 0) AS TOTAL_AMOUNT, " +
+            "COALESCE(SUM(CASE WHEN p.IS_PAID THEN p.TOTAL_AMOUNT END), 0) AS PAID_AMOUNT " +
+            "FROM " + PAYROLL_TABLE + " p " +
+            "LEFT JOIN " + USER_TABLE + " e ON p.EMPLOYEE_ID = e.ID " +
+            "WHERE p.PERIOD_START >= ? AND p.PERIOD_END <= ? " +
+            "GROUP BY p.EMPLOYEE_ID, e.NAME, e.SURNAME " +
+            "ORDER BY TOTAL_AMOUNT DESC";
+
+    @Override
+    protected Function<ColumnLayout, RowMapper<EmployeePayrollStats>> getMapper() {
+        return EmployeePayrollStatsMapper::forLayout;
+    }
+
+    public List<EmployeePayrollStats> findByPeriod(Date periodStart, Date periodEnd) {
+        return queryList(STATS_BY_PERIOD_SQL, periodStart, periodEnd);
+    }
+}
\ No newline at end of file
@@ -1,10 +1,11 @@
 package dao.impl;
 
 import dao.Dao;
-import model.ProductCategory;
+import dao.mapper.ColumnLayout;
 import dao.mapper.ProductCategoryMapper;
+import dao.mapper.RowMapper;
+import model.ProductCategory;
 
-import java.sql.ResultSet;
 import java.util.function.Function;
 
 import static dao.DbConstants.PRODUCT_CATEGORY_TABLE;
@@ -16,7 +17,7 @@ public class ProductCategoryDao extends Dao<ProductCategory> {
     }
     
     @Override
-    protected Function<ResultSet, ProductCategory> getMapper() {
-        return ProductCategoryMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<ProductCategory>> getMapper() {
+        return ProductCategoryMapper::forLayout;
     }
 }
\ No newline at end of file
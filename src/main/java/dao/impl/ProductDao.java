@@ -1,11 +1,15 @@
 package dao.impl;
 
 import dao.Dao;
-import model.Product;
+import dao.mapper.ColumnLayout;
 import dao.mapper.ProductMapper;
+import dao.mapper.RowMapper;
+import model.Product;
 
-import java.sql.ResultSet;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -20,8 +24,8 @@ public class ProductDao extends Dao<Product> {
     }
 
     @Override
-    protected Function<ResultSet, Product> getMapper() {
-        return ProductMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<Product>> getMapper() {
+        return ProductMapper::forLayout;
     }
 
     @Override
@@ -34,11 +38,23 @@ public class ProductDao extends Dao<Product> {
     }
 
     @Override
-    public List<Product> findAll() {
-        String sql = "SELECT p.*, c.NAME as CATEGORY_NAME " +
+    protected String getSelectSql() {
+        return "SELECT p.*, c.NAME as CATEGORY_NAME " +
                 "FROM " + PRODUCT_TABLE + " p " +
                 "LEFT JOIN " + PRODUCT_CATEGORY_TABLE + " c ON p.CATEGORY_ID = c.ID";
-        return queryList(sql);
+    }
+
+    @Override
+    protected String getIdColumn() {
+        return "p.ID";
+    }
+
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return queryList(getSelectSql() + " WHERE p.ID IN (" + placeholders + ")", ids.toArray());
     }
 
     public Long save(Product product) {
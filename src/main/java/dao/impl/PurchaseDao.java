@@ -1,10 +1,11 @@
 package dao.impl;
 
 import dao.Dao;
-import model.Purchase;
+import dao.mapper.ColumnLayout;
 import dao.mapper.PurchaseMapper;
+import dao.mapper.RowMapper;
+import model.Purchase;
 
-import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +14,13 @@ import java.util.function.Function;
 import static dao.DbConstants.*;
 
 public class PurchaseDao extends Dao<Purchase> {
+    private static final String INSERT_SQL = "INSERT INTO " + PURCHASE_TABLE +
+            " (PRODUCT_ID, QUANTITY, STOCK_KEEPER_ID, PURCHASE_DATE, TOTAL_COST) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE " + PURCHASE_TABLE +
+            " SET PRODUCT_ID = ?, QUANTITY = ?, STOCK_KEEPER_ID = ?, " +
+            "PURCHASE_DATE = ?, TOTAL_COST = ? WHERE ID = ?";
 
     @Override
     protected String getTableName() {
@@ -20,8 +28,8 @@ public class PurchaseDao extends Dao<Purchase> {
     }
 
     @Override
-    protected Function<ResultSet, Purchase> getMapper() {
-        return PurchaseMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<Purchase>> getMapper() {
+        return PurchaseMapper::forLayout;
     }
 
     @Override
@@ -37,14 +45,18 @@ public class PurchaseDao extends Dao<Purchase> {
     }
 
     @Override
-    public List<Purchase> findAll() {
-        String sql = "SELECT pur.*, " +
+    protected String getSelectSql() {
+        return "SELECT pur.*, " +
                 "p.NAME as PRODUCT_NAME, " +
                 "u.NAME as STOCK_KEEPER_NAME, u.SURNAME as STOCK_KEEPER_SURNAME " +
                 "FROM " + PURCHASE_TABLE + " pur " +
                 "LEFT JOIN " + PRODUCT_TABLE + " p ON pur.PRODUCT_ID = p.ID " +
                 "LEFT JOIN " + USER_TABLE + " u ON pur.STOCK_KEEPER_ID = u.ID";
-        return queryList(sql);
+    }
+
+    @Override
+    protected String getIdColumn() {
+        return "pur.ID";
     }
 
     public List<Purchase> findByDateRange(Timestamp startDate, Timestamp endDate) {
@@ -60,15 +72,7 @@ public class PurchaseDao extends Dao<Purchase> {
 
     public Long save(Purchase purchase) {
         if (purchase.getId() == null) {
-            String sql = "INSERT INTO " + PURCHASE_TABLE +
-                    " (PRODUCT_ID, QUANTITY, STOCK_KEEPER_ID, PURCHASE_DATE, TOTAL_COST) " +
-                    "VALUES (?, ?, ?, ?, ?)";
-            Long id = insert(sql,
-                    purchase.getProduct().getId(),
-                    purchase.getQuantity(),
-                    purchase.getStockKeeper().getId(),
-                    purchase.getPurchaseDate(),
-                    purchase.getTotalCost());
+            Long id = insert(INSERT_SQL, insertParams(purchase));
             if (id != null) {
                 purchase.setId(id);
             }
@@ -79,16 +83,48 @@ public class PurchaseDao extends Dao<Purchase> {
         }
     }
 
+    public List<Long> saveAll(List<Purchase> purchases) {
+        return saveAll(purchases, DEFAULT_BATCH_SIZE);
+    }
+
+    public List<Long> saveAll(List<Purchase> purchases, int batchSize) {
+        List<Long> ids = insertBatch(INSERT_SQL, purchases.stream().map(this::insertParams).toList(), batchSize);
+        for (int i = 0; i < ids.size(); i++) {
+            purchases.get(i).setId(ids.get(i));
+        }
+        return ids;
+    }
+
     public boolean update(Purchase purchase) {
-        String sql = "UPDATE " + PURCHASE_TABLE +
-                " SET PRODUCT_ID = ?, QUANTITY = ?, STOCK_KEEPER_ID = ?, " +
-                "PURCHASE_DATE = ?, TOTAL_COST = ? WHERE ID = ?";
-        return update(sql,
+        return update(UPDATE_SQL, updateParams(purchase));
+    }
+
+    public int[] updateAll(List<Purchase> purchases) {
+        return updateAll(purchases, DEFAULT_BATCH_SIZE);
+    }
+
+    public int[] updateAll(List<Purchase> purchases, int batchSize) {
+        return updateBatch(UPDATE_SQL, purchases.stream().map(this::updateParams).toList(), batchSize);
+    }
+
+    private Object[] insertParams(Purchase purchase) {
+        return new Object[]{
+                purchase.getProduct().getId(),
+                purchase.getQuantity(),
+                purchase.getStockKeeper().getId(),
+                purchase.getPurchaseDate(),
+                purchase.getTotalCost()
+        };
+    }
+
+    private Object[] updateParams(Purchase purchase) {
+        return new Object[]{
                 purchase.getProduct().getId(),
                 purchase.getQuantity(),
                 purchase.getStockKeeper().getId(),
                 purchase.getPurchaseDate(),
                 purchase.getTotalCost(),
-                purchase.getId());
+                purchase.getId()
+        };
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package dao.impl;
+
+import dao.Dao;
+import dao.mapper.ColumnLayout;
+import dao.mapper.ReceiptMapper;
+import dao.mapper.RowMapper;
+import model.Receipt;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import static dao.DbConstants.*;
+
+public class ReceiptDao extends Dao<Receipt> {
+    private static final String SELECT_ALL_SQL = "SELECT r.*, " +
+            "u.NAME as CASHIER_NAME, u.SURNAME as CASHIER_SURNAME " +
+            "FROM " + RECEIPT_TABLE + " r " +
+            "LEFT JOIN " + USER_TABLE + " u ON r.CASHIER_ID = u.ID";
+
+    private static final String INSERT_SQL = "INSERT INTO " + RECEIPT_TABLE +
+            " (CASHIER_ID, TOTAL_AMOUNT, RECEIPT_DATE) " +
+            "VALUES (?, ?, ?)";
+
+    @Override
+    protected String getTableName() {
+        return RECEIPT_TABLE;
+    }
+
+    @Override
+    protected Function<ColumnLayout, RowMapper<Receipt>> getMapper() {
+        return ReceiptMapper::forLayout;
+    }
+
+    @Override
+    public Optional<Receipt> findById(Long id) {
+        return querySingle(SELECT_ALL_SQL + " WHERE r.ID = ?", id);
+    }
+
+    @Override
+    protected String getSelectSql() {
+        return SELECT_ALL_SQL;
+    }
+
+    @Override
+    protected String getIdColumn() {
+        return "r.ID";
+    }
+
+    public Long save(Receipt receipt) {
+        Long id = insert(INSERT_SQL,
+                receipt.getCashier().getId(),
+                receipt.getTotalAmount(),
+                receipt.getReceiptDate());
+        if (id != null) {
+            receipt.setId(id);
+        }
+        return id;
+    }
+}
\ No newline at end of file
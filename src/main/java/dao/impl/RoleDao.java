@@ -1,10 +1,11 @@
 package dao.impl;
 
 import dao.Dao;
-import model.Role;
+import dao.mapper.ColumnLayout;
 import dao.mapper.RoleMapper;
+import dao.mapper.RowMapper;
+import model.Role;
 
-import java.sql.ResultSet;
 import java.util.function.Function;
 
 import static dao.DbConstants.ROLE_TABLE;
@@ -16,7 +17,7 @@ public class RoleDao extends Dao<Role> {
     }
 
     @Override
-    protected Function<ResultSet, Role> getMapper() {
-        return RoleMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<Role>> getMapper() {
+        return RoleMapper::forLayout;
     }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package dao.impl;
 
 import dao.Dao;
-import model.Sale;
+import dao.Page;
+import dao.mapper.ColumnLayout;
+import dao.mapper.RowMapper;
 import dao.mapper.SaleMapper;
+import model.Sale;
 
-import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +15,22 @@ import java.util.function.Function;
 import static dao.DbConstants.*;
 
 public class SaleDao extends Dao<Sale> {
+    private static final String SELECT_ALL_SQL = "SELECT s.*, " +
+            "p.NAME as PRODUCT_NAME, " +
+            "pc.NAME as PRODUCT_CATEGORY_NAME, " +
+            "u.NAME as CASHIER_NAME, u.SURNAME as CASHIER_SURNAME " +
+            "FROM " + SALE_TABLE + " s " +
+            "LEFT JOIN " + PRODUCT_TABLE +" p ON s.PRODUCT_ID = p.ID " +
+            "LEFT JOIN " + PRODUCT_CATEGORY_TABLE + " pc ON p.CATEGORY_ID = pc.ID " +
+            "LEFT JOIN " + USER_TABLE + " u ON s.CASHIER_ID = u.ID";
+
+    private static final String INSERT_SQL = "INSERT INTO " + SALE_TABLE +
+            " (PRODUCT_ID, QUANTITY, CASHIER_ID, TOTAL_AMOUNT, SALE_DATE, RECEIPT_ID) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE " + SALE_TABLE +
+            " SET PRODUCT_ID = ?, QUANTITY = ?, CASHIER_ID = ?, " +
+            "TOTAL_AMOUNT = ?, SALE_DATE = ? WHERE ID = ?";
 
     @Override
     protected String getTableName() {
@@ -20,8 +38,8 @@ public class SaleDao extends Dao<Sale> {
     }
 
     @Override
-    protected Function<ResultSet, Sale> getMapper() {
-        return SaleMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<Sale>> getMapper() {
+        return SaleMapper::forLayout;
     }
 
     @Override
@@ -39,16 +57,13 @@ public class SaleDao extends Dao<Sale> {
     }
 
     @Override
-    public List<Sale> findAll() {
-        String sql = "SELECT s.*, " +
-                "p.NAME as PRODUCT_NAME, " +
-                "pc.NAME as PRODUCT_CATEGORY_NAME, " +
-                "u.NAME as CASHIER_NAME, u.SURNAME as CASHIER_SURNAME " +
-                "FROM " + SALE_TABLE + " s " +
-                "LEFT JOIN " + PRODUCT_TABLE +" p ON s.PRODUCT_ID = p.ID " +
-                "LEFT JOIN " + PRODUCT_CATEGORY_TABLE + " pc ON p.CATEGORY_ID = pc.ID " +
-                "LEFT JOIN " + USER_TABLE + " u ON s.CASHIER_ID = u.ID";
-        return queryList(sql);
+    protected String getSelectSql() {
+        return SELECT_ALL_SQL;
+    }
+
+    @Override
+    protected String getIdColumn() {
+        return "s.ID";
     }
 
     public List<Sale> findByProduct(Long productId) {
@@ -77,17 +92,21 @@ public class SaleDao extends Dao<Sale> {
         return queryList(sql, startDate, endDate);
     }
 
+    public List<Sale> findByReceipt(Long receiptId) {
+        String sql = SELECT_ALL_SQL + " WHERE s.RECEIPT_ID = ? ORDER BY s.ID";
+        return queryList(sql, receiptId);
+    }
+
+    public Page<Sale> findPageByDateRange(Timestamp startDate, Timestamp endDate, Long afterId, int limit) {
+        String sql = SELECT_ALL_SQL +
+                " WHERE s.SALE_DATE BETWEEN ? AND ? AND s.ID > ?" +
+                " ORDER BY s.ID LIMIT ?";
+        return queryPage(sql, limit, startDate, endDate, startAfter(afterId));
+    }
+
     public Long save(Sale sale) {
         if (sale.getId() == null) {
-            String sql = "INSERT INTO " + SALE_TABLE +
-                    " (PRODUCT_ID, QUANTITY, CASHIER_ID, TOTAL_AMOUNT, SALE_DATE) " +
-                    "VALUES (?, ?, ?, ?, ?)";
-            Long id = insert(sql,
-                    sale.getProduct().getId(),
-                    sale.getQuantity(),
-                    sale.getCashier().getId(),
-                    sale.getTotalAmount(),
-                    sale.getSaleDate());
+            Long id = insert(INSERT_SQL, insertParams(sale));
             if (id != null) {
                 sale.setId(id);
             }
@@ -98,16 +117,49 @@ public class SaleDao extends Dao<Sale> {
         }
     }
 
+    public List<Long> saveAll(List<Sale> sales) {
+        return saveAll(sales, DEFAULT_BATCH_SIZE);
+    }
+
+    public List<Long> saveAll(List<Sale> sales, int batchSize) {
+        List<Long> ids = insertBatch(INSERT_SQL, sales.stream().map(this::insertParams).toList(), batchSize);
+        for (int i = 0; i < ids.size(); i++) {
+            sales.get(i).setId(ids.get(i));
+        }
+        return ids;
+    }
+
     public boolean update(Sale sale) {
-        String sql = "UPDATE " + SALE_TABLE +
-                " SET PRODUCT_ID = ?, QUANTITY = ?, CASHIER_ID = ?, " +
-                "TOTAL_AMOUNT = ?, SALE_DATE = ? WHERE ID = ?";
-        return update(sql,
+        return update(UPDATE_SQL, updateParams(sale));
+    }
+
+    public int[] updateAll(List<Sale> sales) {
+        return updateAll(sales, DEFAULT_BATCH_SIZE);
+    }
+
+    public int[] updateAll(List<Sale> sales, int batchSize) {
+        return updateBatch(UPDATE_SQL, sales.stream().map(this::updateParams).toList(), batchSize);
+    }
+
+    private Object[] insertParams(Sale sale) {
+        return new Object[]{
+                sale.getProduct().getId(),
+                sale.getQuantity(),
+                sale.getCashier().getId(),
+                sale.getTotalAmount(),
+                sale.getSaleDate(),
+                sale.getReceiptId()
+        };
+    }
+
+    private Object[] updateParams(Sale sale) {
+        return new Object[]{
                 sale.getProduct().getId(),
                 sale.getQuantity(),
                 sale.getCashier().getId(),
                 sale.getTotalAmount(),
                 sale.getSaleDate(),
-                sale.getId());
+                sale.getId()
+        };
     }
-}
\ No newline at end of file
+}
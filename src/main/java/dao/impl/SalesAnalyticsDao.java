@@ -0,0 +1,95 @@
+package dao.impl;
+
+import dao.QueryDao;
+import dao.mapper.ColumnLayout;
+import dao.mapper.RowMapper;
+import dao.mapper.SalesBreakdownMapper;
+import model.SalesBreakdown;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.function.Function;
+
+import static dao.DbConstants.*;
+
+public class SalesAnalyticsDao extends QueryDao<SalesBreakdown> {
+    private static final String PRODUCT = "p.NAME";
+    private static final String CATEGORY = "pc.NAME";
+    private static final String CASHIER = "CONCAT_WS(' ', u.NAME, u.SURNAME)";
+    private static final String DAY = "CAST(CAST(s.SALE_DATE AS DATE) AS VARCHAR(10))";
+    private static final String MONTH = "FORMATDATETIME(s.SALE_DATE, 'yyyy-MM')";
+    private static final String NO_GROUP = "CAST(NULL AS VARCHAR(255))";
+
+    private static final String FROM_SALES = " FROM " + SALE_TABLE + " s " +
+            "LEFT JOIN " + PRODUCT_TABLE + " p ON s.PRODUCT_ID = p.ID " +
+            "LEFT JOIN " + PRODUCT_CATEGORY_TABLE + " pc ON p.CATEGORY_ID = pc.ID " +
+            "LEFT JOIN " + USER_TABLE + " u ON s.CASHIER_ID = u.ID " +
+            "WHERE s.SALE_DATE BETWEEN ? AND ?";
+
+    private static final String BY_REVENUE = " ORDER BY ROLLUP_LEVEL, REVENUE DESC";
+    private static final String BY_NAME = " ORDER BY ROLLUP_LEVEL, GROUP_NAME";
+    private static final String BY_GROUP = " ORDER BY GROUP_NAME NULLS LAST, ROLLUP_LEVEL, SUBGROUP_NAME";
+
+    private static final String BY_PRODUCT_SQL = rollup(PRODUCT) + BY_REVENUE;
+    private static final String BY_CATEGORY_SQL = rollup(CATEGORY) + BY_REVENUE;
+    private static final String BY_CASHIER_SQL = rollup(CASHIER) + BY_REVENUE;
+    private static final String BY_DAY_SQL = rollup(DAY) + BY_NAME;
+    private static final String BY_MONTH_SQL = rollup(MONTH) + BY_NAME;
+    private static final String BY_CATEGORY_AND_PRODUCT_SQL = rollup(CATEGORY, PRODUCT) + BY_GROUP;
+    private static final String BY_CASHIER_AND_DAY_SQL = rollup(CASHIER, DAY) + BY_GROUP;
+
+    @Override
+    protected Function<ColumnLayout, RowMapper<SalesBreakdown>> getMapper() {
+        return SalesBreakdownMapper::forLayout;
+    }
+
+    public List<SalesBreakdown> findByProduct(Timestamp startDate, Timestamp endDate) {
+        return queryList(BY_PRODUCT_SQL, startDate, endDate, startDate, endDate);
+    }
+
+    public List<SalesBreakdown> findByCategory(Timestamp startDate, Timestamp endDate) {
+        return queryList(BY_CATEGORY_SQL, startDate, endDate, startDate, endDate);
+    }
+
+    public List<SalesBreakdown> findByCashier(Timestamp startDate, Timestamp endDate) {
+        return queryList(BY_CASHIER_SQL, startDate, endDate, startDate, endDate);
+    }
+
+    public List<SalesBreakdown> findByDay(Timestamp startDate, Timestamp endDate) {
+        return queryList(BY_DAY_SQL, startDate, endDate, startDate, endDate);
+    }
+
+    public List<SalesBreakdown> findByMonth(Timestamp startDate, Timestamp endDate) {
+        return queryList(BY_MONTH_SQL, startDate, endDate, startDate, endDate);
+    }
+
+    public List<SalesBreakdown> findByCategoryAndProduct(Timestamp startDate, Timestamp endDate) {
+        return queryList(BY_CATEGORY_AND_PRODUCT_SQL, startDate, endDate, startDate, endDate, startDate, endDate);
+    }
+
+    public List<SalesBreakdown> findByCashierAndDay(Timestamp startDate, Timestamp endDate) {
+        return queryList(BY_CASHIER_AND_DAY_SQL, startDate, endDate, startDate, endDate, startDate, endDate);
+    }
+
+    private static String rollup(String group) {
+        return grouping(group, NO_GROUP, 0, group) +
+                " UNION ALL " + grouping(NO_GROUP, NO_GROUP, 1, null);
+    }
+
+    private static String rollup(String group, String subgroup) {
+        return grouping(group, subgroup, 0, group + ", " + subgroup) +
+                " UNION ALL " + grouping(group, NO_GROUP, 1, group) +
+                " UNION ALL " + grouping(NO_GROUP, NO_GROUP, 2, null);
+    }
+
+    private static String grouping(String group, String subgroup, int level, String groupBy) {
+        return "SELECT " + group + " AS GROUP_NAME, " +
+                subgroup + " AS SUBGROUP_NAME, " +
+                level + " AS ROLLUP_LEVEL, " +
+                "COALESCE(SUM(s.QUANTITY), 0) AS QUANTITY, " +
+                "COALESCE(SUM(s.TOTAL_AMOUNT), 0) AS REVENUE, " +
+                "COUNT(*) AS SALES_COUNT" +
+                FROM_SALES +
+                (groupBy != null ? " GROUP BY " + groupBy : "");
+    }
+}
\ No newline at end of file
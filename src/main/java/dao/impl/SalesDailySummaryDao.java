@@ -0,0 +1,90 @@
+package dao.impl;
+
+import dao.Dao;
+import dao.mapper.ColumnLayout;
+import dao.mapper.DailySalesSummaryMapper;
+import dao.mapper.RowMapper;
+import model.DailySalesSummary;
+import model.Sale;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import static dao.DbConstants.*;
+
+public class SalesDailySummaryDao extends Dao<DailySalesSummary> {
+    private static final String SELECT_ALL_SQL = "SELECT ds.*, p.NAME as PRODUCT_NAME " +
+            "FROM " + SALES_DAILY_SUMMARY_TABLE + " ds " +
+            "LEFT JOIN " + PRODUCT_TABLE + " p ON ds.PRODUCT_ID = p.ID";
+
+    private static final String ADD_SALE_SQL = "MERGE INTO " + SALES_DAILY_SUMMARY_TABLE + " ds " +
+            "USING (SELECT CAST(? AS DATE) AS SALE_DAY, " +
+            "CAST(? AS BIGINT) AS PRODUCT_ID, " +
+            "CAST(? AS BIGINT) AS QUANTITY, " +
+            "CAST(? AS DECIMAL(14, 2)) AS REVENUE) d " +
+            "ON ds.SALE_DAY = d.SALE_DAY AND ds.PRODUCT_ID = d.PRODUCT_ID " +
+            "WHEN MATCHED THEN UPDATE SET " +
+            "QUANTITY = ds.QUANTITY + d.QUANTITY, " +
+            "REVENUE = ds.REVENUE + d.REVENUE, " +
+            "SALES_COUNT = ds.SALES_COUNT + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (SALE_DAY, PRODUCT_ID, QUANTITY, REVENUE, SALES_COUNT) " +
+            "VALUES (d.SALE_DAY, d.PRODUCT_ID, d.QUANTITY, d.REVENUE, 1)";
+
+    private static final String CLEAR_SQL = "DELETE FROM " + SALES_DAILY_SUMMARY_TABLE;
+
+    private static final String REBUILD_SQL = "INSERT INTO " + SALES_DAILY_SUMMARY_TABLE +
+            " (SALE_DAY, PRODUCT_ID, QUANTITY, REVENUE, SALES_COUNT) " +
+            "SELECT CAST(SALE_DATE AS DATE), PRODUCT_ID, SUM(QUANTITY), SUM(TOTAL_AMOUNT), COUNT(*) " +
+            "FROM " + SALE_TABLE +
+            " GROUP BY CAST(SALE_DATE AS DATE), PRODUCT_ID";
+
+    @Override
+    protected String getTableName() {
+        return SALES_DAILY_SUMMARY_TABLE;
+    }
+
+    @Override
+    protected Function<ColumnLayout, RowMapper<DailySalesSummary>> getMapper() {
+        return DailySalesSummaryMapper::forLayout;
+    }
+
+    @Override
+    protected String getSelectSql() {
+        return SELECT_ALL_SQL;
+    }
+
+    public List<DailySalesSummary> findByDateRange(Date startDate, Date endDate) {
+        String sql = SELECT_ALL_SQL +
+                " WHERE ds.SALE_DAY BETWEEN ? AND ?" +
+                " ORDER BY ds.SALE_DAY, ds.PRODUCT_ID";
+        return queryList(sql, startDate, endDate);
+    }
+
+    public boolean addSale(Sale sale) {
+        return update(ADD_SALE_SQL, addSaleParams(sale));
+    }
+
+    public int[] addSales(List<Sale> sales) {
+        return updateBatch(ADD_SALE_SQL, sales.stream().map(this::addSaleParams).toList(), DEFAULT_BATCH_SIZE);
+    }
+
+    public long rebuild() {
+        delete(CLEAR_SQL);
+        update(REBUILD_SQL);
+        return count();
+    }
+
+    public long count() {
+        return queryScalar(Long.class, "SELECT COUNT(*) FROM " + SALES_DAILY_SUMMARY_TABLE).orElse(0L);
+    }
+
+    private Object[] addSaleParams(Sale sale) {
+        return new Object[]{
+                Date.valueOf(sale.getSaleDate().toLocalDateTime().toLocalDate()),
+                sale.getProduct().getId(),
+                sale.getQuantity(),
+                sale.getTotalAmount()
+        };
+    }
+}
\ No newline at end of file
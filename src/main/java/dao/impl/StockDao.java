@@ -1,17 +1,22 @@
 package dao.impl;
 
 import dao.Dao;
-import model.Stock;
+import dao.mapper.ColumnLayout;
+import dao.mapper.RowMapper;
 import dao.mapper.StockMapper;
+import model.Stock;
 
-import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
 import static dao.DbConstants.*;
 public class StockDao extends Dao<Stock> {
+    private static final String DECREMENT_SQL = "UPDATE " + STOCK_TABLE +
+            " SET QUANTITY = QUANTITY - ?, UPDATED_AT = ? " +
+            "WHERE PRODUCT_ID = ? AND QUANTITY >= ?";
 
     @Override
     protected String getTableName() {
@@ -19,8 +24,8 @@ public class StockDao extends Dao<Stock> {
     }
 
     @Override
-    protected Function<ResultSet, Stock> getMapper() {
-        return StockMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<Stock>> getMapper() {
+        return StockMapper::forLayout;
     }
 
     @Override
@@ -33,11 +38,15 @@ public class StockDao extends Dao<Stock> {
     }
 
     @Override
-    public List<Stock> findAll() {
-        String sql = "SELECT s.*, p.NAME as PRODUCT_NAME " +
+    protected String getSelectSql() {
+        return "SELECT s.*, p.NAME as PRODUCT_NAME " +
                 "FROM " + STOCK_TABLE + " s " +
                 "LEFT JOIN " + PRODUCT_TABLE + " p ON s.PRODUCT_ID = p.ID";
-        return queryList(sql);
+    }
+
+    @Override
+    protected String getIdColumn() {
+        return "s.PRODUCT_ID";
     }
 
     public List<Stock> findAvailableProducts() {
@@ -105,6 +114,18 @@ public class StockDao extends Dao<Stock> {
                 stock.getProduct().getId());
     }
 
+    public Optional<Integer> decrementQuantity(Long productId, int quantity) {
+        return tryUpdate(DECREMENT_SQL, decrementParams(productId, quantity, new Timestamp(System.currentTimeMillis())));
+    }
+
+    public int[] decrementQuantities(Map<Long, Integer> quantities) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = quantities.entrySet().stream()
+                .map(entry -> decrementParams(entry.getKey(), entry.getValue(), now))
+                .toList();
+        return updateBatch(DECREMENT_SQL, rows, DEFAULT_BATCH_SIZE);
+    }
+
     @Override
     public boolean deleteById(Long id) {
         String sql = "DELETE FROM " + STOCK_TABLE + " WHERE PRODUCT_ID = ?";
@@ -115,4 +136,8 @@ public class StockDao extends Dao<Stock> {
         String sql = "DELETE FROM " + STOCK_TABLE + " WHERE PRODUCT_ID = ?";
         return delete(sql, productId);
     }
+
+    private Object[] decrementParams(Long productId, int quantity, Timestamp now) {
+        return new Object[]{quantity, now, productId, quantity};
+    }
 }
\ No newline at end of file
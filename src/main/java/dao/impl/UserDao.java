@@ -1,10 +1,11 @@
 package dao.impl;
 
 import dao.Dao;
+import dao.mapper.ColumnLayout;
+import dao.mapper.RowMapper;
 import dao.mapper.UserMapper;
 import model.User;
 
-import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
@@ -19,8 +20,8 @@ public class UserDao extends Dao<User> {
     }
 
     @Override
-    protected Function<ResultSet, User> getMapper() {
-        return UserMapper::mapRow;
+    protected Function<ColumnLayout, RowMapper<User>> getMapper() {
+        return UserMapper::forLayout;
     }
 
     @Override
@@ -33,11 +34,15 @@ public class UserDao extends Dao<User> {
     }
 
     @Override
-    public List<User> findAll() {
-        String sql = "SELECT u.*, r.NAME as ROLE_NAME " +
+    protected String getSelectSql() {
+        return "SELECT u.*, r.NAME as ROLE_NAME " +
                 "FROM " + USER_TABLE + " u " +
                 "LEFT JOIN " + ROLE_TABLE + " r ON u.ROLE_ID = r.ID";
-        return queryList(sql);
+    }
+
+    @Override
+    protected String getIdColumn() {
+        return "u.ID";
     }
 
     public List<User> findActiveEmployees(){
@@ -0,0 +1,37 @@
+package dao.mapper;
+
+import exception.DatabaseMapException;
+import model.BudgetSummary;
+import model.Money;
+
+import java.sql.SQLException;
+
+import static util.LoggerUtil.error;
+
+public class BudgetSummaryMapper {
+    private BudgetSummaryMapper() {
+    }
+
+    public static RowMapper<BudgetSummary> forLayout(ColumnLayout layout) {
+        int plannedIncomeIndex = layout.require("PLANNED_INCOME");
+        int plannedExpensesIndex = layout.require("PLANNED_EXPENSES");
+        int actualIncomeIndex = layout.require("ACTUAL_INCOME");
+        int actualExpensesIndex = layout.require("ACTUAL_EXPENSES");
+        int monthsIndex = layout.require("MONTHS");
+
+        return rs -> {
+            try {
+                Money plannedIncome = Money.of(rs.getBigDecimal(plannedIncomeIndex));
+                Money plannedExpenses = Money.of(rs.getBigDecimal(plannedExpensesIndex));
+                Money actualIncome = Money.of(rs.getBigDecimal(actualIncomeIndex));
+                Money actualExpenses = Money.of(rs.getBigDecimal(actualExpensesIndex));
+                long months = rs.getLong(monthsIndex);
+
+                return new BudgetSummary(plannedIncome, plannedExpenses, actualIncome, actualExpenses, months);
+            } catch (SQLException e) {
+                error("Error mapping budget summary from ResultSet", e);
+                throw new DatabaseMapException("Error mapping budget summary");
+            }
+        };
+    }
+}
\ No newline at end of file
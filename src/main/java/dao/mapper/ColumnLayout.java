@@ -0,0 +1,55 @@
+package dao.mapper;
+
+import exception.DatabaseMapException;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ColumnLayout {
+    private static final Map<String, ColumnLayout> CACHE = new ConcurrentHashMap<>();
+
+    private final int columnCount;
+    private final Map<String, Integer> indexes;
+
+    private ColumnLayout(ResultSetMetaData metaData) throws SQLException {
+        this.columnCount = metaData.getColumnCount();
+        this.indexes = new HashMap<>(columnCount * 2);
+        for (int i = 1; i <= columnCount; i++) {
+            indexes.putIfAbsent(metaData.getColumnLabel(i).toUpperCase(Locale.ROOT), i);
+        }
+    }
+
+    public static ColumnLayout of(String sql, ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        ColumnLayout cached = CACHE.get(sql);
+
+        if (cached != null && cached.columnCount == metaData.getColumnCount()) {
+            return cached;
+        }
+
+        ColumnLayout layout = new ColumnLayout(metaData);
+        CACHE.put(sql, layout);
+        return layout;
+    }
+
+    public int require(String column) {
+        Integer index = indexes.get(column);
+        if (index == null) {
+            throw new DatabaseMapException("Столбец " + column + " отсутствует в результате запроса");
+        }
+        return index;
+    }
+
+    public int optional(String column) {
+        return indexes.getOrDefault(column, 0);
+    }
+
+    public static String getString(ResultSet rs, int index) throws SQLException {
+        return index > 0 ? rs.getString(index) : null;
+    }
+}
@@ -0,0 +1,40 @@
+package dao.mapper;
+
+import exception.DatabaseMapException;
+import model.DailySalesSummary;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static util.LoggerUtil.error;
+
+public class DailySalesSummaryMapper {
+    private DailySalesSummaryMapper() {
+    }
+
+    public static RowMapper<DailySalesSummary> forLayout(ColumnLayout layout) {
+        int saleDayIndex = layout.require("SALE_DAY");
+        int productIdIndex = layout.require("PRODUCT_ID");
+        int productNameIndex = layout.require("PRODUCT_NAME");
+        int quantityIndex = layout.require("QUANTITY");
+        int revenueIndex = layout.require("REVENUE");
+        int salesCountIndex = layout.require("SALES_COUNT");
+
+        return rs -> {
+            try {
+                LocalDate saleDay = rs.getDate(saleDayIndex).toLocalDate();
+                Long productId = rs.getLong(productIdIndex);
+                String productName = rs.getString(productNameIndex);
+                long quantity = rs.getLong(quantityIndex);
+                BigDecimal revenue = rs.getBigDecimal(revenueIndex);
+                long salesCount = rs.getLong(salesCountIndex);
+
+                return new DailySalesSummary(saleDay, productId, productName, quantity, revenue, salesCount);
+            } catch (SQLException e) {
+                error("Error mapping daily sales summary from ResultSet", e);
+                throw new DatabaseMapException("Error mapping daily sales summary");
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package dao.mapper;
+
+import exception.DatabaseMapException;
+import model.DailyTotal;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static util.LoggerUtil.error;
+
+public class DailyTotalMapper {
+    private DailyTotalMapper() {
+    }
+
+    public static RowMapper<DailyTotal> forLayout(ColumnLayout layout) {
+        int dayIndex = layout.require("TOTAL_DAY");
+        int amountIndex = layout.require("TOTAL_AMOUNT");
+
+        return rs -> {
+            try {
+                LocalDate day = rs.getDate(dayIndex).toLocalDate();
+                BigDecimal amount = rs.getBigDecimal(amountIndex);
+
+                return new DailyTotal(day, amount);
+            } catch (SQLException e) {
+                error("Error mapping daily total from ResultSet", e);
+                throw new DatabaseMapException("Error mapping daily total");
+            }
+        };
+    }
+}
\ No newline at end of file
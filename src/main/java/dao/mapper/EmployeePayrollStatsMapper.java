@@ -0,0 +1,42 @@
+package dao.mapper;
+
+import exception.DatabaseMapException;
+import model.EmployeePayrollStats;
+import model.Money;
+
+import java.sql.SQLException;
+
+import static util.LoggerUtil.error;
+
+public class EmployeePayrollStatsMapper {
+    private EmployeePayrollStatsMapper() {
+    }
+
+    public static RowMapper<EmployeePayrollStats> forLayout(ColumnLayout layout) {
+        int employeeIdIndex = layout.require("EMPLOYEE_ID");
+        int employeeNameIndex = layout.require("EMPLOYEE_NAME");
+        int employeeSurnameIndex = layout.optional("EMPLOYEE_SURNAME");
+        int payrollCountIndex = layout.require("PAYROLL_COUNT");
+        int paidCountIndex = layout.require("PAID_COUNT");
+        int totalAmountIndex = layout.require("TOTAL_AMOUNT");
+        int paidAmountIndex = layout.require("PAID_AMOUNT");
+
+        return rs -> {
+            try {
+                Long employeeId = rs.getLong(employeeIdIndex);
+                String employeeName = rs.getString(employeeNameIndex);
+                String employeeSurname = ColumnLayout.getString(rs, employeeSurnameIndex);
+                long payrollCount = rs.getLong(payrollCountIndex);
+                long paidCount = rs.getLong(paidCountIndex);
+                Money totalAmount = Money.of(rs.getBigDecimal(totalAmountIndex));
+                Money paidAmount = Money.of(rs.getBigDecimal(paidAmountIndex));
+
+                String fullName = employeeSurname != null ? employeeName + " " + employeeSurname : employeeName;
+                return new EmployeePayrollStats(employeeId, fullName, payrollCount, paidCount, totalAmount, paidAmount);
+            } catch (SQLException e) {
+                error("Error mapping employee payroll stats from ResultSet", e);
+                throw new DatabaseMapException("Error mapping employee payroll stats");
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -3,10 +3,10 @@ package dao.mapper;
 import exception.DatabaseMapException;
 import model.Expense;
 import model.ExpenseCategory;
+import model.ExpenseSourceType;
+import model.Money;
 import model.User;
 
-import java.math.BigDecimal;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 
@@ -15,34 +15,47 @@ import static util.LoggerUtil.error;
 public class ExpenseMapper {
     private ExpenseMapper() {}
 
-    public static Expense mapRow(ResultSet rs) {
-        try {
-            Long id = rs.getLong("ID");
-            Long categoryId = rs.getLong("CATEGORY_ID");
-            BigDecimal totalAmount = rs.getBigDecimal("TOTAL_AMOUNT");
-            Timestamp expenseDate = rs.getTimestamp("EXPENSE_DATE");
-            Long accountantId = rs.getLong("ACCOUNTANT_ID");
-
-            String  categoryName = rs.getString("CATEGORY_NAME");
-            String accountantName = rs.getString("ACCOUNTANT_NAME");
-            String accountantSurname = null;
-
+    public static RowMapper<Expense> forLayout(ColumnLayout layout) {
+        int idIndex = layout.require("ID");
+        int categoryIdIndex = layout.require("CATEGORY_ID");
+        int totalAmountIndex = layout.require("TOTAL_AMOUNT");
+        int expenseDateIndex = layout.require("EXPENSE_DATE");
+        int accountantIdIndex = layout.require("ACCOUNTANT_ID");
+        int categoryNameIndex = layout.require("CATEGORY_NAME");
+        int accountantNameIndex = layout.require("ACCOUNTANT_NAME");
+        int accountantSurnameIndex = layout.optional("ACCOUNTANT_SURNAME");
+        int sourceTypeIndex = layout.optional("SOURCE_TYPE");
+        int sourceIdIndex = layout.optional("SOURCE_ID");
+
+        return rs -> {
             try {
-                accountantSurname = rs.getString("ACCOUNTANT_SURNAME");
-            } catch (SQLException ignored) {}
-
-            ExpenseCategory category = new ExpenseCategory(categoryId, categoryName);
-
-            User accountant = new User(
-                    accountantId,
-                    accountantName,
-                    accountantSurname
-            );
-
-            return new Expense(id, category, totalAmount, expenseDate, accountant);
-        } catch (SQLException e) {
-            error("Error mapping expense from ResultSet", e);
-            throw new DatabaseMapException("Error mapping expense");
-        }
+                Long id = rs.getLong(idIndex);
+                Long categoryId = rs.getLong(categoryIdIndex);
+                Money totalAmount = Money.of(rs.getBigDecimal(totalAmountIndex));
+                Timestamp expenseDate = rs.getTimestamp(expenseDateIndex);
+                Long accountantId = rs.getLong(accountantIdIndex);
+                String categoryName = rs.getString(categoryNameIndex);
+                String accountantName = rs.getString(accountantNameIndex);
+                String accountantSurname = ColumnLayout.getString(rs, accountantSurnameIndex);
+
+                ExpenseCategory category = new ExpenseCategory(categoryId, categoryName);
+
+                User accountant = new User(
+                        accountantId,
+                        accountantName,
+                        accountantSurname
+                );
+
+                Expense expense = new Expense(id, category, totalAmount, expenseDate, accountant);
+                String sourceType = ColumnLayout.getString(rs, sourceTypeIndex);
+                if (sourceType != null && sourceIdIndex != 0) {
+                    expense.setSource(ExpenseSourceType.valueOf(sourceType), rs.getObject(sourceIdIndex, Long.class));
+                }
+                return expense;
+            } catch (SQLException e) {
+                error("Error mapping expense from ResultSet", e);
+                throw new DatabaseMapException("Error mapping expense");
+            }
+        };
     }
 }
\ No newline at end of file
@@ -3,10 +3,9 @@ package dao.mapper;
 import exception.DatabaseMapException;
 import model.Income;
 import model.IncomeSource;
+import model.Money;
 import model.User;
 
-import java.math.BigDecimal;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 
@@ -16,34 +15,40 @@ public class IncomeMapper {
     private IncomeMapper() {
     }
 
-    public static Income mapRow(ResultSet rs) {
-        try {
-            Long id = rs.getLong("ID");
-            Long sourceId = rs.getLong("SOURCE_ID");
-            BigDecimal totalAmount = rs.getBigDecimal("TOTAL_AMOUNT");
-            Timestamp incomeDate = rs.getTimestamp("INCOME_DATE");
-            Long accountantId = rs.getLong("ACCOUNTANT_ID");
-
-            String sourceName = rs.getString("SOURCE_NAME");
-            String accountantName = rs.getString("ACCOUNTANT_NAME");
-            String accountantSurname = null;
-
+    public static RowMapper<Income> forLayout(ColumnLayout layout) {
+        int idIndex = layout.require("ID");
+        int sourceIdIndex = layout.require("SOURCE_ID");
+        int totalAmountIndex = layout.require("TOTAL_AMOUNT");
+        int incomeDateIndex = layout.require("INCOME_DATE");
+        int accountantIdIndex = layout.require("ACCOUNTANT_ID");
+        int sourceNameIndex = layout.require("SOURCE_NAME");
+        int accountantNameIndex = layout.require("ACCOUNTANT_NAME");
+        int accountantSurnameIndex = layout.optional("ACCOUNTANT_SURNAME");
+
+        return rs -> {
             try {
-                accountantSurname = rs.getString("ACCOUNTANT_SURNAME");
-            } catch (SQLException ignored) {}
-
-            IncomeSource source = new IncomeSource(sourceId, sourceName);
-
-            User accountant = new User(
-                    accountantId,
-                    accountantName,
-                    accountantSurname
-            );
-
-            return new Income(id, source, totalAmount, incomeDate, accountant);
-        } catch (SQLException e) {
-            error("Error mapping income from ResultSet", e);
-            throw new DatabaseMapException("Error mapping income");
-        }
+                Long id = rs.getLong(idIndex);
+                Long sourceId = rs.getLong(sourceIdIndex);
+                Money totalAmount = Money.of(rs.getBigDecimal(totalAmountIndex));
+                Timestamp incomeDate = rs.getTimestamp(incomeDateIndex);
+                Long accountantId = rs.getLong(accountantIdIndex);
+                String sourceName = rs.getString(sourceNameIndex);
+                String accountantName = rs.getString(accountantNameIndex);
+                String accountantSurname = ColumnLayout.getString(rs, accountantSurnameIndex);
+
+                IncomeSource source = new IncomeSource(sourceId, sourceName);
+
+                User accountant = new User(
+                        accountantId,
+                        accountantName,
+                        accountantSurname
+                );
+
+                return new Income(id, source, totalAmount, incomeDate, accountant);
+            } catch (SQLException e) {
+                error("Error mapping income from ResultSet", e);
+                throw new DatabaseMapException("Error mapping income");
+            }
+        };
     }
 }
\ No newline at end of file
@@ -3,7 +3,6 @@ package dao.mapper;
 import exception.DatabaseMapException;
 import model.IncomeSource;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import static util.LoggerUtil.error;
@@ -11,15 +10,20 @@ import static util.LoggerUtil.error;
 public class IncomeSourceMapper {
     private IncomeSourceMapper() {}
 
-    public static IncomeSource mapRow(ResultSet rs){
-        try {
-            return new IncomeSource(
-                    rs.getLong("ID"),
-                    rs.getString("NAME")
-            );
-        } catch (SQLException e) {
-            error("Error mapping role from ResultSet", e);
-            throw new DatabaseMapException("Error mapping role");
-        }
+    public static RowMapper<IncomeSource> forLayout(ColumnLayout layout) {
+        int idIndex = layout.require("ID");
+        int nameIndex = layout.require("NAME");
+
+        return rs -> {
+            try {
+                return new IncomeSource(
+                        rs.getLong(idIndex),
+                        rs.getString(nameIndex)
+                );
+            } catch (SQLException e) {
+                error("Error mapping role from ResultSet", e);
+                throw new DatabaseMapException("Error mapping role");
+            }
+        };
     }
 }
\ No newline at end of file
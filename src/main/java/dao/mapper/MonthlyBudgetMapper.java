@@ -1,11 +1,11 @@
 package dao.mapper;
 
 import exception.DatabaseMapException;
+import model.Money;
 import model.MonthlyBudget;
 import model.User;
 
-import java.math.BigDecimal;
-import java.sql.ResultSet;
+import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
@@ -16,47 +16,57 @@ public class MonthlyBudgetMapper {
     private MonthlyBudgetMapper() {
     }
 
-    public static MonthlyBudget mapRow(ResultSet rs) {
-        try {
-            Long id = rs.getLong("ID");
-            LocalDate budgetDate = rs.getDate("BUDGET_DATE") != null ? rs.getDate("BUDGET_DATE").toLocalDate() : null;
-            BigDecimal plannedIncome = rs.getBigDecimal("PLANNED_INCOME");
-            BigDecimal plannedExpenses = rs.getBigDecimal("PLANNED_EXPENSES");
-            BigDecimal actualIncome = rs.getBigDecimal("ACTUAL_INCOME");
-            BigDecimal actualExpenses = rs.getBigDecimal("ACTUAL_EXPENSES");
-            BigDecimal netResult = rs.getBigDecimal("NET_RESULT");
-            Timestamp createdAt = rs.getTimestamp("CREATED_AT");
-            Timestamp updatedAt = rs.getTimestamp("UPDATED_AT");
-            Long directorId = rs.getLong("DIRECTOR_ID");
-
-            String directorName = rs.getString("DIRECTOR_NAME");
-            String directorSurname = null;
+    public static RowMapper<MonthlyBudget> forLayout(ColumnLayout layout) {
+        int idIndex = layout.require("ID");
+        int budgetDateIndex = layout.require("BUDGET_DATE");
+        int plannedIncomeIndex = layout.require("PLANNED_INCOME");
+        int plannedExpensesIndex = layout.require("PLANNED_EXPENSES");
+        int actualIncomeIndex = layout.require("ACTUAL_INCOME");
+        int actualExpensesIndex = layout.require("ACTUAL_EXPENSES");
+        int netResultIndex = layout.require("NET_RESULT");
+        int createdAtIndex = layout.require("CREATED_AT");
+        int updatedAtIndex = layout.require("UPDATED_AT");
+        int directorIdIndex = layout.require("DIRECTOR_ID");
+        int directorNameIndex = layout.require("DIRECTOR_NAME");
+        int directorSurnameIndex = layout.optional("DIRECTOR_SURNAME");
 
+        return rs -> {
             try {
-                directorSurname = rs.getString("DIRECTOR_SURNAME");
-            } catch (SQLException ignored) {
-            }
+                Long id = rs.getLong(idIndex);
+                Date budgetDateValue = rs.getDate(budgetDateIndex);
+                LocalDate budgetDate = budgetDateValue != null ? budgetDateValue.toLocalDate() : null;
+                Money plannedIncome = Money.of(rs.getBigDecimal(plannedIncomeIndex));
+                Money plannedExpenses = Money.of(rs.getBigDecimal(plannedExpensesIndex));
+                Money actualIncome = Money.of(rs.getBigDecimal(actualIncomeIndex));
+                Money actualExpenses = Money.of(rs.getBigDecimal(actualExpensesIndex));
+                Money netResult = Money.of(rs.getBigDecimal(netResultIndex));
+                Timestamp createdAt = rs.getTimestamp(createdAtIndex);
+                Timestamp updatedAt = rs.getTimestamp(updatedAtIndex);
+                Long directorId = rs.getLong(directorIdIndex);
+                String directorName = rs.getString(directorNameIndex);
+                String directorSurname = ColumnLayout.getString(rs, directorSurnameIndex);
+
+                User director = new User(
+                        directorId,
+                        directorName,
+                        directorSurname);
 
-            User director = new User(
-                    directorId,
-                    directorName,
-                    directorSurname);
-
-            return new MonthlyBudget(
-                    id,
-                    budgetDate,
-                    plannedIncome,
-                    plannedExpenses,
-                    actualIncome,
-                    actualExpenses,
-                    netResult,
-                    createdAt,
-                    updatedAt,
-                    director
-            );
-        } catch (SQLException e) {
-            error("Error mapping monthly budget from ResultSet", e);
-            throw new DatabaseMapException("Error mapping monthly budget");
-        }
+                return new MonthlyBudget(
+                        id,
+                        budgetDate,
+                        plannedIncome,
+                        plannedExpenses,
+                        actualIncome,
+                        actualExpenses,
+                        netResult,
+                        createdAt,
+                        updatedAt,
+                        director
+                );
+            } catch (SQLException e) {
+                error("Error mapping monthly budget from ResultSet", e);
+                throw new DatabaseMapException("Error mapping monthly budget");
+            }
+        };
     }
 }
\ No newline at end of file
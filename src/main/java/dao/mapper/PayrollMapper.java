@@ -5,7 +5,7 @@ import model.Payroll;
 import model.User;
 
 import java.math.BigDecimal;
-import java.sql.ResultSet;
+import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
@@ -15,72 +15,75 @@ import static util.LoggerUtil.error;
 public class PayrollMapper {
     private PayrollMapper() {}
 
-    public static Payroll mapRow(ResultSet rs) {
-        try {
-            Long id = rs.getLong("ID");
-            Long employeeId = rs.getLong("EMPLOYEE_ID");
-            Long accountantId = rs.getLong("ACCOUNTANT_ID");
-            Float hoursWorked = rs.getFloat("HOURS_WORKED");
-            BigDecimal hourlyRate = rs.getBigDecimal("HOURLY_RATE");
-            BigDecimal totalAmount = rs.getBigDecimal("TOTAL_AMOUNT");
-
-            LocalDate periodStart = null;
-            if (rs.getDate("PERIOD_START") != null) {
-                periodStart = rs.getDate("PERIOD_START").toLocalDate();
-            }
-
-            LocalDate periodEnd = null;
-            if (rs.getDate("PERIOD_END") != null) {
-                periodEnd = rs.getDate("PERIOD_END").toLocalDate();
-            }
-
-            LocalDate paymentDate = null;
-            if (rs.getDate("PAYMENT_DATE") != null) {
-                paymentDate = rs.getDate("PAYMENT_DATE").toLocalDate();
-            }
-
-            Boolean isPaid = rs.getBoolean("IS_PAID");
-            Timestamp createdAt = rs.getTimestamp("CREATED_AT");
-            Timestamp updatedAt = rs.getTimestamp("UPDATED_AT");
-
-            String employeeName = rs.getString("EMPLOYEE_NAME");
-            String employeeSurname = null;
-            String accountantName= rs.getString("ACCOUNTANT_NAME");
-            String accountantSurname = null;
+    public static RowMapper<Payroll> forLayout(ColumnLayout layout) {
+        int idIndex = layout.require("ID");
+        int employeeIdIndex = layout.require("EMPLOYEE_ID");
+        int accountantIdIndex = layout.require("ACCOUNTANT_ID");
+        int hoursWorkedIndex = layout.require("HOURS_WORKED");
+        int hourlyRateIndex = layout.require("HOURLY_RATE");
+        int totalAmountIndex = layout.require("TOTAL_AMOUNT");
+        int periodStartIndex = layout.require("PERIOD_START");
+        int periodEndIndex = layout.require("PERIOD_END");
+        int paymentDateIndex = layout.require("PAYMENT_DATE");
+        int isPaidIndex = layout.require("IS_PAID");
+        int createdAtIndex = layout.require("CREATED_AT");
+        int updatedAtIndex = layout.require("UPDATED_AT");
+        int employeeNameIndex = layout.require("EMPLOYEE_NAME");
+        int employeeSurnameIndex = layout.optional("EMPLOYEE_SURNAME");
+        int accountantNameIndex = layout.require("ACCOUNTANT_NAME");
+        int accountantSurnameIndex = layout.optional("ACCOUNTANT_SURNAME");
 
+        return rs -> {
             try {
-                employeeSurname = rs.getString("EMPLOYEE_SURNAME");
-                accountantSurname = rs.getString("ACCOUNTANT_SURNAME");
-            } catch (SQLException ignored) {}
+                Long id = rs.getLong(idIndex);
+                Long employeeId = rs.getLong(employeeIdIndex);
+                Long accountantId = rs.getLong(accountantIdIndex);
+                Float hoursWorked = rs.getFloat(hoursWorkedIndex);
+                BigDecimal hourlyRate = rs.getBigDecimal(hourlyRateIndex);
+                BigDecimal totalAmount = rs.getBigDecimal(totalAmountIndex);
+                Date periodStartValue = rs.getDate(periodStartIndex);
+                LocalDate periodStart = periodStartValue != null ? periodStartValue.toLocalDate() : null;
+                Date periodEndValue = rs.getDate(periodEndIndex);
+                LocalDate periodEnd = periodEndValue != null ? periodEndValue.toLocalDate() : null;
+                Date paymentDateValue = rs.getDate(paymentDateIndex);
+                LocalDate paymentDate = paymentDateValue != null ? paymentDateValue.toLocalDate() : null;
+                Boolean isPaid = rs.getBoolean(isPaidIndex);
+                Timestamp createdAt = rs.getTimestamp(createdAtIndex);
+                Timestamp updatedAt = rs.getTimestamp(updatedAtIndex);
+                String employeeName = rs.getString(employeeNameIndex);
+                String employeeSurname = ColumnLayout.getString(rs, employeeSurnameIndex);
+                String accountantName = rs.getString(accountantNameIndex);
+                String accountantSurname = ColumnLayout.getString(rs, accountantSurnameIndex);
 
-            User employee = new User(
-                    employeeId,
-                    employeeName,
-                    employeeSurname
-            );
+                User employee = new User(
+                        employeeId,
+                        employeeName,
+                        employeeSurname
+                );
 
-            User accountant = new User(
-                    accountantId,
-                    accountantName,
-                    accountantSurname);
+                User accountant = new User(
+                        accountantId,
+                        accountantName,
+                        accountantSurname);
 
-            return new Payroll(
-                    id,
-                    employee,
-                    accountant,
-                    hoursWorked,
-                    hourlyRate,
-                    totalAmount,
-                    periodStart,
-                    periodEnd,
-                    paymentDate,
-                    isPaid,
-                    createdAt,
-                    updatedAt
-            );
-        } catch (SQLException e) {
-            error("Error mapping payroll from ResultSet", e);
-            throw new DatabaseMapException("Error mapping payroll");
-        }
+                return new Payroll(
+                        id,
+                        employee,
+                        accountant,
+                        hoursWorked,
+                        hourlyRate,
+                        totalAmount,
+                        periodStart,
+                        periodEnd,
+                        paymentDate,
+                        isPaid,
+                        createdAt,
+                        updatedAt
+                );
+            } catch (SQLException e) {
+                error("Error mapping payroll from ResultSet", e);
+                throw new DatabaseMapException("Error mapping payroll");
+            }
+        };
     }
 }
\ No newline at end of file
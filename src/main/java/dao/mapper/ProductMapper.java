@@ -1,11 +1,10 @@
 package dao.mapper;
 
 import exception.DatabaseMapException;
+import model.Money;
 import model.Product;
 import model.ProductCategory;
 
-import java.math.BigDecimal;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 
@@ -14,24 +13,34 @@ import static util.LoggerUtil.error;
 public class ProductMapper {
     private ProductMapper() {}
 
-    public static Product mapRow(ResultSet rs) {
-        try {
-            Long id = rs.getLong("ID");
-            String name = rs.getString("NAME");
-            Long categoryId = rs.getLong("CATEGORY_ID");
-            BigDecimal buyPrice = rs.getBigDecimal("BUY_PRICE");
-            BigDecimal sellPrice = rs.getBigDecimal("SELL_PRICE");
-            Timestamp createdAt = rs.getTimestamp("CREATED_AT");
-            Timestamp updatedAt = rs.getTimestamp("UPDATED_AT");
-
-            String categoryName = rs.getString("CATEGORY_NAME");
-
-            ProductCategory category = new ProductCategory(categoryId, categoryName);
-
-            return new Product(id, name, category, buyPrice, sellPrice, createdAt, updatedAt);
-        } catch (SQLException e) {
-            error("Error mapping product from ResultSet", e);
-            throw new DatabaseMapException("Error mapping product");
-        }
+    public static RowMapper<Product> forLayout(ColumnLayout layout) {
+        int idIndex = layout.require("ID");
+        int nameIndex = layout.require("NAME");
+        int categoryIdIndex = layout.require("CATEGORY_ID");
+        int buyPriceIndex = layout.require("BUY_PRICE");
+        int sellPriceIndex = layout.require("SELL_PRICE");
+        int createdAtIndex = layout.require("CREATED_AT");
+        int updatedAtIndex = layout.require("UPDATED_AT");
+        int categoryNameIndex = layout.require("CATEGORY_NAME");
+
+        return rs -> {
+            try {
+                Long id = rs.getLong(idIndex);
+                String name = rs.getString(nameIndex);
+                Long categoryId = rs.getLong(categoryIdIndex);
+                Money buyPrice = Money.of(rs.getBigDecimal(buyPriceIndex));
+                Money sellPrice = Money.of(rs.getBigDecimal(sellPriceIndex));
+                Timestamp createdAt = rs.getTimestamp(createdAtIndex);
+                Timestamp updatedAt = rs.getTimestamp(updatedAtIndex);
+                String categoryName = rs.getString(categoryNameIndex);
+
+                ProductCategory category = new ProductCategory(categoryId, categoryName);
+
+                return new Product(id, name, category, buyPrice, sellPrice, createdAt, updatedAt);
+            } catch (SQLException e) {
+                error("Error mapping product from ResultSet", e);
+                throw new DatabaseMapException("Error mapping product");
+            }
+        };
     }
 }
\ No newline at end of file
@@ -6,7 +6,6 @@ import model.Purchase;
 import model.User;
 
 import java.math.BigDecimal;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 
@@ -16,35 +15,42 @@ public class PurchaseMapper {
     private PurchaseMapper() {
     }
 
-    public static Purchase mapRow(ResultSet rs) {
-        try {
-            Long id = rs.getLong("ID");
-            Long productId = rs.getLong("PRODUCT_ID");
-            Integer quantity = rs.getInt("QUANTITY");
-            Long stockKeeperId = rs.getLong("STOCK_KEEPER_ID");
-            Timestamp purchaseDate = rs.getTimestamp("PURCHASE_DATE");
-            BigDecimal totalCost = rs.getBigDecimal("TOTAL_COST");
-
-            String productName  = rs.getString("PRODUCT_NAME");
-            String stockKeeperName = rs.getString("STOCK_KEEPER_NAME");
-            String stockKeeperSurname = null;
-
+    public static RowMapper<Purchase> forLayout(ColumnLayout layout) {
+        int idIndex = layout.require("ID");
+        int productIdIndex = layout.require("PRODUCT_ID");
+        int quantityIndex = layout.require("QUANTITY");
+        int stockKeeperIdIndex = layout.require("STOCK_KEEPER_ID");
+        int purchaseDateIndex = layout.require("PURCHASE_DATE");
+        int totalCostIndex = layout.require("TOTAL_COST");
+        int productNameIndex = layout.require("PRODUCT_NAME");
+        int stockKeeperNameIndex = layout.require("STOCK_KEEPER_NAME");
+        int stockKeeperSurnameIndex = layout.optional("STOCK_KEEPER_SURNAME");
+
+        return rs -> {
             try {
-                stockKeeperSurname = rs.getString("STOCK_KEEPER_SURNAME");
-            } catch (SQLException ignored) {}
-
-            Product product = new Product(productId, productName);
-
-            User stockKeeper = new User(
-                    stockKeeperId,
-                    stockKeeperName,
-                    stockKeeperSurname
-            );
-
-            return new Purchase(id, product, quantity, stockKeeper, purchaseDate, totalCost);
-        } catch (SQLException e) {
-            error("Error mapping purchase from ResultSet", e);
-            throw new DatabaseMapException("Error mapping purchase");
-        }
+                Long id = rs.getLong(idIndex);
+                Long productId = rs.getLong(productIdIndex);
+                Integer quantity = rs.getInt(quantityIndex);
+                Long stockKeeperId = rs.getLong(stockKeeperIdIndex);
+                Timestamp purchaseDate = rs.getTimestamp(purchaseDateIndex);
+                BigDecimal totalCost = rs.getBigDecimal(totalCostIndex);
+                String productName = rs.getString(productNameIndex);
+                String stockKeeperName = rs.getString(stockKeeperNameIndex);
+                String stockKeeperSurname = ColumnLayout.getString(rs, stockKeeperSurnameIndex);
+
+                Product product = new Product(productId, productName);
+
+                User stockKeeper = new User(
+                        stockKeeperId,
+                        stockKeeperName,
+                        stockKeeperSurname
+                );
+
+                return new Purchase(id, product, quantity, stockKeeper, purchaseDate, totalCost);
+            } catch (SQLException e) {
+                error("Error mapping purchase from ResultSet", e);
+                throw new DatabaseMapException("Error mapping purchase");
+            }
+        };
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package dao.mapper;
+
+import exception.DatabaseMapException;
+import model.Money;
+import model.Receipt;
+import model.User;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import static util.LoggerUtil.error;
+
+public class ReceiptMapper {
+    private ReceiptMapper() {
+    }
+
+    public static RowMapper<Receipt> forLayout(ColumnLayout layout) {
+        int idIndex = layout.require("ID");
+        int cashierIdIndex = layout.require("CASHIER_ID");
+        int totalAmountIndex = layout.require("TOTAL_AMOUNT");
+        int receiptDateIndex = layout.require("RECEIPT_DATE");
+        int cashierNameIndex = layout.require("CASHIER_NAME");
+        int cashierSurnameIndex = layout.optional("CASHIER_SURNAME");
+
+        return rs -> {
+            try {
+                Long id = rs.getLong(idIndex);
+                Long cashierId = rs.getLong(cashierIdIndex);
+                Money totalAmount = Money.of(rs.getBigDecimal(totalAmountIndex));
+                Timestamp receiptDate = rs.getTimestamp(receiptDateIndex);
+                String cashierName = rs.getString(cashierNameIndex);
+                String cashierSurname = ColumnLayout.getString(rs, cashierSurnameIndex);
+
+                User cashier = new User(cashierId, cashierName, cashierSurname);
+
+                return new Receipt(id, cashier, totalAmount, receiptDate);
+            } catch (SQLException e) {
+                error("Error mapping receipt from ResultSet", e);
+                throw new DatabaseMapException("Error mapping receipt");
+            }
+        };
+    }
+}
\ No newline at end of file
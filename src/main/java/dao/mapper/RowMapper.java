@@ -0,0 +1,8 @@
+package dao.mapper;
+
+import java.sql.ResultSet;
+
+@FunctionalInterface
+public interface RowMapper<T> {
+    T mapRow(ResultSet rs);
+}
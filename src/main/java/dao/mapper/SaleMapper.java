@@ -3,8 +3,6 @@ package dao.mapper;
 import exception.DatabaseMapException;
 import model.*;
 
-import java.math.BigDecimal;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 
@@ -14,33 +12,46 @@ public class SaleMapper {
     private SaleMapper() {
     }
 
-    public static Sale mapRow(ResultSet rs) {
-        try {
-            Long id = rs.getLong("ID");
-            Long productId = rs.getLong("PRODUCT_ID");
-            Integer quantity = rs.getInt("QUANTITY");
-            Long cashierId = rs.getLong("CASHIER_ID");
-            BigDecimal totalAmount = rs.getBigDecimal("TOTAL_AMOUNT");
-            Timestamp saleDate = rs.getTimestamp("SALE_DATE");
-
-            String productName =  rs.getString("PRODUCT_NAME");
-            String productCategoryName = rs.getString("PRODUCT_CATEGORY_NAME");
-            String cashierName = rs.getString("CASHIER_NAME");
-            String cashierSurname = null;
-
+    public static RowMapper<Sale> forLayout(ColumnLayout layout) {
+        int idIndex = layout.require("ID");
+        int productIdIndex = layout.require("PRODUCT_ID");
+        int quantityIndex = layout.require("QUANTITY");
+        int cashierIdIndex = layout.require("CASHIER_ID");
+        int totalAmountIndex = layout.require("TOTAL_AMOUNT");
+        int saleDateIndex = layout.require("SALE_DATE");
+        int productNameIndex = layout.require("PRODUCT_NAME");
+        int productCategoryNameIndex = layout.require("PRODUCT_CATEGORY_NAME");
+        int cashierNameIndex = layout.require("CASHIER_NAME");
+        int cashierSurnameIndex = layout.optional("CASHIER_SURNAME");
+        int receiptIdIndex = layout.optional("RECEIPT_ID");
+
+        return rs -> {
             try {
-                cashierSurname = rs.getString("CASHIER_SURNAME");
-            } catch (SQLException ignored) {}
-
-            ProductCategory productCategory = new ProductCategory(null,productCategoryName);
-            Product product = new Product(productId, productName, productCategory);
-
-            User cashier = new User(cashierId, cashierName, cashierSurname);
-
-            return new Sale(id, product, quantity, cashier, totalAmount, saleDate);
-        } catch (SQLException e) {
-            error("Error mapping expense from ResultSet", e);
-            throw new DatabaseMapException("Error mapping expense");
-        }
+                Long id = rs.getLong(idIndex);
+                Long productId = rs.getLong(productIdIndex);
+                Integer quantity = rs.getInt(quantityIndex);
+                Long cashierId = rs.getLong(cashierIdIndex);
+                Money totalAmount = Money.of(rs.getBigDecimal(totalAmountIndex));
+                Timestamp saleDate = rs.getTimestamp(saleDateIndex);
+                String productName = rs.getString(productNameIndex);
+                String productCategoryName = rs.getString(productCategoryNameIndex);
+                String cashierName = rs.getString(cashierNameIndex);
+                String cashierSurname = ColumnLayout.getString(rs, cashierSurnameIndex);
+
+                ProductCategory productCategory = new ProductCategory(null, productCategoryName);
+                Product product = new Product(productId, productName, productCategory);
+
+                User cashier = new User(cashierId, cashierName, cashierSurname);
+
+                Sale sale = new Sale(id, product, quantity, cashier, totalAmount, saleDate);
+                if (receiptIdIndex != 0) {
+                    sale.setReceiptId(rs.getObject(receiptIdIndex, Long.class));
+                }
+                return sale;
+            } catch (SQLException e) {
+                error("Error mapping sale from ResultSet", e);
+                throw new DatabaseMapException("Error mapping sale");
+            }
+        };
     }
 }
\ No newline at end of file
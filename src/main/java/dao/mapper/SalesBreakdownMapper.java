@@ -0,0 +1,39 @@
+package dao.mapper;
+
+import exception.DatabaseMapException;
+import model.Money;
+import model.SalesBreakdown;
+
+import java.sql.SQLException;
+
+import static util.LoggerUtil.error;
+
+public class SalesBreakdownMapper {
+    private SalesBreakdownMapper() {
+    }
+
+    public static RowMapper<SalesBreakdown> forLayout(ColumnLayout layout) {
+        int groupNameIndex = layout.require("GROUP_NAME");
+        int subgroupNameIndex = layout.require("SUBGROUP_NAME");
+        int rollupLevelIndex = layout.require("ROLLUP_LEVEL");
+        int quantityIndex = layout.require("QUANTITY");
+        int revenueIndex = layout.require("REVENUE");
+        int salesCountIndex = layout.require("SALES_COUNT");
+
+        return rs -> {
+            try {
+                String groupName = rs.getString(groupNameIndex);
+                String subgroupName = rs.getString(subgroupNameIndex);
+                int rollupLevel = rs.getInt(rollupLevelIndex);
+                long quantity = rs.getLong(quantityIndex);
+                Money revenue = Money.of(rs.getBigDecimal(revenueIndex));
+                long salesCount = rs.getLong(salesCountIndex);
+
+                return new SalesBreakdown(groupName, subgroupName, rollupLevel, quantity, revenue, salesCount);
+            } catch (SQLException e) {
+                error("Error mapping sales breakdown from ResultSet", e);
+                throw new DatabaseMapException("Error mapping sales breakdown");
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -4,7 +4,6 @@ import exception.DatabaseMapException;
 import model.Product;
 import model.Stock;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 
@@ -13,27 +12,33 @@ import static util.LoggerUtil.error;
 public class StockMapper {
     private StockMapper() {}
 
-    public static Stock mapRow(ResultSet rs) {
-        try {
-            Long productId = rs.getLong("PRODUCT_ID");
-            Integer quantity = rs.getInt("QUANTITY");
-            Timestamp createdAt = rs.getTimestamp("CREATED_AT");
-            Timestamp updatedAt = rs.getTimestamp("UPDATED_AT");
-
-            String productName  = rs.getString("PRODUCT_NAME");
-
-
-            Product product = new Product(productId, productName);
-
-            return new Stock(
-                    product,
-                    quantity,
-                    createdAt,
-                    updatedAt
-            );
-        } catch (SQLException e) {
-            error("Error mapping stock from ResultSet", e);
-            throw new DatabaseMapException("Error mapping stock");
-        }
+    public static RowMapper<Stock> forLayout(ColumnLayout layout) {
+        int productIdIndex = layout.require("PRODUCT_ID");
+        int quantityIndex = layout.require("QUANTITY");
+        int createdAtIndex = layout.require("CREATED_AT");
+        int updatedAtIndex = layout.require("UPDATED_AT");
+        int productNameIndex = layout.require("PRODUCT_NAME");
+
+        return rs -> {
+            try {
+                Long productId = rs.getLong(productIdIndex);
+                Integer quantity = rs.getInt(quantityIndex);
+                Timestamp createdAt = rs.getTimestamp(createdAtIndex);
+                Timestamp updatedAt = rs.getTimestamp(updatedAtIndex);
+                String productName = rs.getString(productNameIndex);
+
+                Product product = new Product(productId, productName);
+
+                return new Stock(
+                        product,
+                        quantity,
+                        createdAt,
+                        updatedAt
+                );
+            } catch (SQLException e) {
+                error("Error mapping stock from ResultSet", e);
+                throw new DatabaseMapException("Error mapping stock");
+            }
+        };
     }
 }
\ No newline at end of file
@@ -4,7 +4,6 @@ import exception.DatabaseMapException;
 import model.Role;
 import model.User;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 
@@ -14,26 +13,38 @@ public class UserMapper {
     private UserMapper() {
     }
 
-    public static User mapRow(ResultSet rs) {
-        try {
-            Long id = rs.getLong("ID");
-            String name = rs.getString("NAME");
-            String surname = rs.getString("SURNAME");
-            String email = rs.getString("EMAIL");
-            String password = rs.getString("PASSWORD");
-            Boolean enabled = rs.getBoolean("ENABLED");
-            Long roleId = rs.getLong("ROLE_ID");
-            Timestamp createdAt = rs.getTimestamp("CREATED_AT");
-            Timestamp updatedAt = rs.getTimestamp("UPDATED_AT");
-
-            String roleName = rs.getString("ROLE_NAME");
-
-            Role role = new Role(roleId, roleName);
-
-            return new User(id, name, surname, email, password, enabled, role, createdAt, updatedAt);
-        } catch (SQLException e) {
-            error("Error mapping user from ResultSet", e);
-            throw new DatabaseMapException("Error mapping user");
-        }
+    public static RowMapper<User> forLayout(ColumnLayout layout) {
+        int idIndex = layout.require("ID");
+        int nameIndex = layout.require("NAME");
+        int surnameIndex = layout.require("SURNAME");
+        int emailIndex = layout.require("EMAIL");
+        int passwordIndex = layout.require("PASSWORD");
+        int enabledIndex = layout.require("ENABLED");
+        int roleIdIndex = layout.require("ROLE_ID");
+        int createdAtIndex = layout.require("CREATED_AT");
+        int updatedAtIndex = layout.require("UPDATED_AT");
+        int roleNameIndex = layout.require("ROLE_NAME");
+
+        return rs -> {
+            try {
+                Long id = rs.getLong(idIndex);
+                String name = rs.getString(nameIndex);
+                String surname = rs.getString(surnameIndex);
+                String email = rs.getString(emailIndex);
+                String password = rs.getString(passwordIndex);
+                Boolean enabled = rs.getBoolean(enabledIndex);
+                Long roleId = rs.getLong(roleIdIndex);
+                Timestamp createdAt = rs.getTimestamp(createdAtIndex);
+                Timestamp updatedAt = rs.getTimestamp(updatedAtIndex);
+                String roleName = rs.getString(roleNameIndex);
+
+                Role role = new Role(roleId, roleName);
+
+                return new User(id, name, surname, email, password, enabled, role, createdAt, updatedAt);
+            } catch (SQLException e) {
+                error("Error mapping user from ResultSet", e);
+                throw new DatabaseMapException("Error mapping user");
+            }
+        };
     }
 }
\ No newline at end of file
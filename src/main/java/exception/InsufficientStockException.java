@@ -0,0 +1,7 @@
+package exception;
+
+public class InsufficientStockException extends StockUpdateException {
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
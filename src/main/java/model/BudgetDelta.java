@@ -0,0 +1,7 @@
+package model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record BudgetDelta(LocalDate budgetDate, BigDecimal incomeDelta, BigDecimal expenseDelta, Long directorId) {
+}
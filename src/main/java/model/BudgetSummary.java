@@ -0,0 +1,14 @@
+package model;
+
+public record BudgetSummary(Money plannedIncome, Money plannedExpenses,
+                            Money actualIncome, Money actualExpenses, long months) {
+    public static final BudgetSummary EMPTY = new BudgetSummary(Money.ZERO, Money.ZERO, Money.ZERO, Money.ZERO, 0);
+
+    public Money netResult() {
+        return actualIncome.minus(actualExpenses);
+    }
+
+    public Money plannedProfit() {
+        return plannedIncome.minus(plannedExpenses);
+    }
+}
\ No newline at end of file
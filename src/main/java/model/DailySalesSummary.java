@@ -0,0 +1,45 @@
+package model;
+
+import util.TableFormatter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailySalesSummary(LocalDate saleDay, Long productId, String productName,
+                                long quantity, BigDecimal revenue, long salesCount) implements FormattableEntity {
+
+    private static final int DAY_WIDTH = 12;
+    private static final int PRODUCT_WIDTH = 30;
+    private static final int QUANTITY_WIDTH = 12;
+    private static final int REVENUE_WIDTH = 15;
+    private static final int COUNT_WIDTH = 10;
+
+    @Override
+    public String toString() {
+        return "Продажи за " + saleDay + ": товар='" + productName + "', количество=" + quantity +
+                ", выручка=" + revenue + ", продаж=" + salesCount;
+    }
+
+    @Override
+    public String getTableHeader() {
+        return TableFormatter.formatCell("День", DAY_WIDTH) +
+                TableFormatter.formatCell("Товар", PRODUCT_WIDTH) +
+                TableFormatter.formatCell("Количество", QUANTITY_WIDTH) +
+                TableFormatter.formatCell("Выручка", REVENUE_WIDTH) +
+                TableFormatter.formatCell("Продаж", COUNT_WIDTH);
+    }
+
+    @Override
+    public String toTableRow() {
+        return TableFormatter.formatCell(saleDay, DAY_WIDTH) +
+                TableFormatter.formatCell(productName, PRODUCT_WIDTH) +
+                TableFormatter.formatCell(quantity, QUANTITY_WIDTH) +
+                TableFormatter.formatCell(revenue, REVENUE_WIDTH) +
+                TableFormatter.formatCell(salesCount, COUNT_WIDTH);
+    }
+
+    @Override
+    public String getTableDivider() {
+        return TableFormatter.createDivider(DAY_WIDTH, PRODUCT_WIDTH, QUANTITY_WIDTH, REVENUE_WIDTH, COUNT_WIDTH);
+    }
+}
\ No newline at end of file
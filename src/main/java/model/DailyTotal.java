@@ -0,0 +1,7 @@
+package model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyTotal(LocalDate day, BigDecimal amount) {
+}
\ No newline at end of file
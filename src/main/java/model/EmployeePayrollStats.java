@@ -0,0 +1,51 @@
+package model;
+
+import util.TableFormatter;
+
+public record EmployeePayrollStats(Long employeeId, String employeeName, long payrollCount, long paidCount,
+                                   Money totalAmount, Money paidAmount) implements FormattableEntity {
+
+    private static final int ID_WIDTH = 5;
+    private static final int EMPLOYEE_WIDTH = 25;
+    private static final int COUNT_WIDTH = 12;
+    private static final int AMOUNT_WIDTH = 15;
+
+    public long unpaidCount() {
+        return payrollCount - paidCount;
+    }
+
+    public Money unpaidAmount() {
+        return totalAmount.minus(paidAmount);
+    }
+
+    @Override
+    public String toString() {
+        return "Зарплаты сотрудника " + employeeName + ": начислений=" + payrollCount + ", выплачено=" + paidCount +
+                ", сумма=" + totalAmount + ", выплачено на сумму=" + paidAmount;
+    }
+
+    @Override
+    public String getTableHeader() {
+        return TableFormatter.formatCell("ID", ID_WIDTH) +
+                TableFormatter.formatCell("Сотрудник", EMPLOYEE_WIDTH) +
+                TableFormatter.formatCell("Начислений", COUNT_WIDTH) +
+                TableFormatter.formatCell("Выплачено", COUNT_WIDTH) +
+                TableFormatter.formatCell("Сумма", AMOUNT_WIDTH) +
+                TableFormatter.formatCell("К выплате", AMOUNT_WIDTH);
+    }
+
+    @Override
+    public String toTableRow() {
+        return TableFormatter.formatCell(employeeId, ID_WIDTH) +
+                TableFormatter.formatCell(employeeName, EMPLOYEE_WIDTH) +
+                TableFormatter.formatCell(payrollCount, COUNT_WIDTH) +
+                TableFormatter.formatCell(paidCount, COUNT_WIDTH) +
+                TableFormatter.formatCell(totalAmount, AMOUNT_WIDTH) +
+                TableFormatter.formatCell(unpaidAmount(), AMOUNT_WIDTH);
+    }
+
+    @Override
+    public String getTableDivider() {
+        return TableFormatter.createDivider(ID_WIDTH, EMPLOYEE_WIDTH, COUNT_WIDTH, COUNT_WIDTH, AMOUNT_WIDTH, AMOUNT_WIDTH);
+    }
+}
\ No newline at end of file
@@ -9,9 +9,11 @@ import java.time.format.DateTimeFormatter;
 public class Expense implements FormattableEntity {
     private Long id;
     private ExpenseCategory category;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private Timestamp expenseDate;
     private User accountant;
+    private ExpenseSourceType sourceType;
+    private Long sourceId;
 
     private static final int ID_WIDTH = 5;
     private static final int CATEGORY_WIDTH = 25;
@@ -22,7 +24,7 @@ public class Expense implements FormattableEntity {
 
     public Expense(ExpenseCategory category, BigDecimal totalAmount) {
         this.category = category;
-        this.totalAmount = totalAmount;
+        this.totalAmount = Money.of(totalAmount);
     }
 
     public Expense(ExpenseCategory category, BigDecimal totalAmount, Timestamp expenseDate, User accountant) {
@@ -32,7 +34,12 @@ public class Expense implements FormattableEntity {
     }
 
     public Expense(Long id, ExpenseCategory category, BigDecimal totalAmount, Timestamp expenseDate, User accountant) {
-        this(category, totalAmount);
+        this(id, category, Money.of(totalAmount), expenseDate, accountant);
+    }
+
+    public Expense(Long id, ExpenseCategory category, Money totalAmount, Timestamp expenseDate, User accountant) {
+        this.category = category;
+        this.totalAmount = totalAmount;
         this.id = id;
         this.expenseDate = expenseDate;
         this.accountant = accountant;
@@ -93,10 +100,18 @@ public class Expense implements FormattableEntity {
     }
 
     public BigDecimal getTotalAmount() {
-        return totalAmount;
+        return Money.toBigDecimal(totalAmount);
     }
 
     public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = Money.of(totalAmount);
+    }
+
+    public Money getTotalAmountMoney() {
+        return totalAmount;
+    }
+
+    public void setTotalAmountMoney(Money totalAmount) {
         this.totalAmount = totalAmount;
     }
 
@@ -115,4 +130,17 @@ public class Expense implements FormattableEntity {
     public void setAccountant(User accountant) {
         this.accountant = accountant;
     }
+
+    public ExpenseSourceType getSourceType() {
+        return sourceType;
+    }
+
+    public Long getSourceId() {
+        return sourceId;
+    }
+
+    public void setSource(ExpenseSourceType sourceType, Long sourceId) {
+        this.sourceType = sourceType;
+        this.sourceId = sourceId;
+    }
 }
\ No newline at end of file
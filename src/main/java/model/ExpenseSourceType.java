@@ -0,0 +1,6 @@
+package model;
+
+public enum ExpenseSourceType {
+    PURCHASE,
+    PAYROLL
+}
\ No newline at end of file
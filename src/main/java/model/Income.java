@@ -9,7 +9,7 @@ import java.time.format.DateTimeFormatter;
 public class Income implements FormattableEntity {
     private Long id;
     private IncomeSource source;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private Timestamp incomeDate;
     private User accountant;
 
@@ -21,6 +21,10 @@ public class Income implements FormattableEntity {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     public Income(Long id, IncomeSource source, BigDecimal totalAmount, Timestamp incomeDate, User accountant) {
+        this(id, source, Money.of(totalAmount), incomeDate, accountant);
+    }
+
+    public Income(Long id, IncomeSource source, Money totalAmount, Timestamp incomeDate, User accountant) {
         this.id = id;
         this.source = source;
         this.totalAmount = totalAmount;
@@ -83,10 +87,18 @@ public class Income implements FormattableEntity {
     }
 
     public BigDecimal getTotalAmount() {
-        return totalAmount;
+        return Money.toBigDecimal(totalAmount);
     }
 
     public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = Money.of(totalAmount);
+    }
+
+    public Money getTotalAmountMoney() {
+        return totalAmount;
+    }
+
+    public void setTotalAmountMoney(Money totalAmount) {
         this.totalAmount = totalAmount;
     }
 
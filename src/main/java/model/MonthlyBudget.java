@@ -10,11 +10,11 @@ import java.time.format.DateTimeFormatter;
 public class MonthlyBudget implements FormattableEntity, TimestampedEntity {
     private Long id;
     private LocalDate budgetDate;
-    private BigDecimal plannedIncome;
-    private BigDecimal plannedExpenses;
-    private BigDecimal actualIncome;
-    private BigDecimal actualExpenses;
-    private BigDecimal netResult;
+    private Money plannedIncome;
+    private Money plannedExpenses;
+    private Money actualIncome;
+    private Money actualExpenses;
+    private Money netResult;
     private Timestamp createdAt;
     private Timestamp updatedAt;
     private User director;
@@ -27,21 +27,24 @@ public class MonthlyBudget implements FormattableEntity, TimestampedEntity {
 
     public MonthlyBudget(LocalDate budgetDate, BigDecimal plannedIncome, BigDecimal plannedExpenses, User  director) {
         this.budgetDate = budgetDate;
-        this.plannedIncome = plannedIncome;
-        this.plannedExpenses = plannedExpenses;
+        this.plannedIncome = Money.of(plannedIncome);
+        this.plannedExpenses = Money.of(plannedExpenses);
         this.director = director;
-        this.actualIncome = BigDecimal.ZERO;
-        this.actualExpenses = BigDecimal.ZERO;
+        this.actualIncome = Money.ZERO;
+        this.actualExpenses = Money.ZERO;
     }
 
-    public MonthlyBudget(Long id, LocalDate budgetDate, BigDecimal plannedIncome, BigDecimal plannedExpenses,
-                         BigDecimal actualIncome, BigDecimal actualExpenses, BigDecimal netResult,
+    public MonthlyBudget(Long id, LocalDate budgetDate, Money plannedIncome, Money plannedExpenses,
+                         Money actualIncome, Money actualExpenses, Money netResult,
                          Timestamp createdAt, Timestamp updatedAt, User director) {
-        this(budgetDate, plannedIncome, plannedExpenses, director);
         this.id = id;
+        this.budgetDate = budgetDate;
+        this.plannedIncome = plannedIncome;
+        this.plannedExpenses = plannedExpenses;
         this.actualIncome = actualIncome;
         this.actualExpenses = actualExpenses;
         this.netResult = netResult;
+        this.director = director;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -109,41 +112,85 @@ public class MonthlyBudget implements FormattableEntity, TimestampedEntity {
     }
 
     public BigDecimal getPlannedIncome() {
-        return plannedIncome;
+        return Money.toBigDecimal(plannedIncome);
     }
 
     public void setPlannedIncome(BigDecimal plannedIncome) {
+        this.plannedIncome = Money.of(plannedIncome);
+    }
+
+    public Money getPlannedIncomeMoney() {
+        return plannedIncome;
+    }
+
+    public void setPlannedIncomeMoney(Money plannedIncome) {
         this.plannedIncome = plannedIncome;
     }
 
     public BigDecimal getPlannedExpenses() {
-        return plannedExpenses;
+        return Money.toBigDecimal(plannedExpenses);
     }
 
     public void setPlannedExpenses(BigDecimal plannedExpenses) {
+        this.plannedExpenses = Money.of(plannedExpenses);
+    }
+
+    public Money getPlannedExpensesMoney() {
+        return plannedExpenses;
+    }
+
+    public void setPlannedExpensesMoney(Money plannedExpenses) {
         this.plannedExpenses = plannedExpenses;
     }
 
     public BigDecimal getActualIncome() {
-        return actualIncome;
+        return Money.toBigDecimal(actualIncome);
     }
 
     public void setActualIncome(BigDecimal actualIncome) {
+        this.actualIncome = Money.of(actualIncome);
+    }
+
+    public Money getActualIncomeMoney() {
+        return actualIncome;
+    }
+
+    public void setActualIncomeMoney(Money actualIncome) {
         this.actualIncome = actualIncome;
     }
 
     public BigDecimal getActualExpenses() {
-        return actualExpenses;
+        return Money.toBigDecimal(actualExpenses);
     }
 
     public void setActualExpenses(BigDecimal actualExpenses) {
+        this.actualExpenses = Money.of(actualExpenses);
+    }
+
+    public Money getActualExpensesMoney() {
+        return actualExpenses;
+    }
+
+    public void setActualExpensesMoney(Money actualExpenses) {
         this.actualExpenses = actualExpenses;
     }
 
     public BigDecimal getNetResult() {
+        return Money.toBigDecimal(netResult);
+    }
+
+    public void setNetResult(BigDecimal netResult) {
+        this.netResult = Money.of(netResult);
+    }
+
+    public Money getNetResultMoney() {
         return netResult;
     }
 
+    public void setNetResultMoney(Money netResult) {
+        this.netResult = netResult;
+    }
+
     public Timestamp getCreatedAt() {
         return createdAt;
     }
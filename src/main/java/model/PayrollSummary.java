@@ -0,0 +1,40 @@
+package model;
+
+import java.util.List;
+
+public record PayrollSummary(long payrollCount, long paidCount, Money totalAmount, Money paidAmount,
+                             List<EmployeePayrollStats> employees) {
+
+    public static PayrollSummary of(List<EmployeePayrollStats> employees) {
+        long payrollCount = 0;
+        long paidCount = 0;
+        for (EmployeePayrollStats stats : employees) {
+            payrollCount += stats.payrollCount();
+            paidCount += stats.paidCount();
+        }
+        return new PayrollSummary(payrollCount, paidCount,
+                Money.sum(employees, EmployeePayrollStats::totalAmount),
+                Money.sum(employees, EmployeePayrollStats::paidAmount),
+                List.copyOf(employees));
+    }
+
+    public long unpaidCount() {
+        return payrollCount - paidCount;
+    }
+
+    public Money unpaidAmount() {
+        return totalAmount.minus(paidAmount);
+    }
+
+    public long paidPercent() {
+        return percentOf(paidCount);
+    }
+
+    public long unpaidPercent() {
+        return percentOf(unpaidCount());
+    }
+
+    private long percentOf(long count) {
+        return payrollCount == 0 ? 0 : count * 100 / payrollCount;
+    }
+}
\ No newline at end of file
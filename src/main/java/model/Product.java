@@ -9,8 +9,8 @@ public class Product implements FormattableEntity, TimestampedEntity {
     private Long id;
     private String name;
     private ProductCategory category;
-    private BigDecimal buyPrice;
-    private BigDecimal sellPrice;
+    private Money buyPrice;
+    private Money sellPrice;
     private Timestamp createdAt;
     private Timestamp updatedAt;
 
@@ -31,12 +31,18 @@ public class Product implements FormattableEntity, TimestampedEntity {
 
     public Product(Long id, String name, ProductCategory category, BigDecimal buyPrice, BigDecimal sellPrice) {
         this(id, name, category);
-        this.buyPrice = buyPrice;
-        this.sellPrice = sellPrice;
+        this.buyPrice = Money.of(buyPrice);
+        this.sellPrice = Money.of(sellPrice);
     }
 
     public Product(Long id, String name, ProductCategory category, BigDecimal buyPrice, BigDecimal sellPrice, Timestamp createdAt, Timestamp updatedAt) {
-        this(id, name, category, buyPrice, sellPrice);
+        this(id, name, category, Money.of(buyPrice), Money.of(sellPrice), createdAt, updatedAt);
+    }
+
+    public Product(Long id, String name, ProductCategory category, Money buyPrice, Money sellPrice, Timestamp createdAt, Timestamp updatedAt) {
+        this(id, name, category);
+        this.buyPrice = buyPrice;
+        this.sellPrice = sellPrice;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -99,18 +105,34 @@ public class Product implements FormattableEntity, TimestampedEntity {
     }
 
     public BigDecimal getBuyPrice() {
-        return buyPrice;
+        return Money.toBigDecimal(buyPrice);
     }
 
     public void setBuyPrice(BigDecimal buyPrice) {
+        this.buyPrice = Money.of(buyPrice);
+    }
+
+    public Money getBuyPriceMoney() {
+        return buyPrice;
+    }
+
+    public void setBuyPriceMoney(Money buyPrice) {
         this.buyPrice = buyPrice;
     }
 
     public BigDecimal getSellPrice() {
-        return sellPrice;
+        return Money.toBigDecimal(sellPrice);
     }
 
     public void setSellPrice(BigDecimal sellPrice) {
+        this.sellPrice = Money.of(sellPrice);
+    }
+
+    public Money getSellPriceMoney() {
+        return sellPrice;
+    }
+
+    public void setSellPriceMoney(Money sellPrice) {
         this.sellPrice = sellPrice;
     }
 
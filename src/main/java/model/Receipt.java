@@ -0,0 +1,122 @@
+package model;
+
+import util.TableFormatter;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Receipt implements FormattableEntity {
+    private Long id;
+    private User cashier;
+    private Money totalAmount;
+    private Timestamp receiptDate;
+    private List<Sale> lines;
+
+    private static final int ID_WIDTH = 5;
+    private static final int LINES_WIDTH = 10;
+    private static final int AMOUNT_WIDTH = 15;
+    private static final int CASHIER_WIDTH = 20;
+    private static final int DATE_WIDTH = 20;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    public Receipt(Long id, User cashier, Money totalAmount, Timestamp receiptDate) {
+        this(id, cashier, totalAmount, receiptDate, new ArrayList<>());
+    }
+
+    public Receipt(Long id, User cashier, Money totalAmount, Timestamp receiptDate, List<Sale> lines) {
+        this.id = id;
+        this.cashier = cashier;
+        this.totalAmount = totalAmount;
+        this.receiptDate = receiptDate;
+        this.lines = lines;
+    }
+
+    @Override
+    public String toString() {
+        return "Чек" +
+                "\nid: " + id +
+                "\nпозиций: " + lines.size() +
+                "\nкассир: " + (cashier != null ? cashier.getFullName() : "не указан") +
+                "\nсумма: " + totalAmount +
+                "\nдата: " + getFormattedReceiptDate();
+    }
+
+    @Override
+    public String getTableHeader() {
+        return TableFormatter.formatCell("ID", ID_WIDTH) +
+                TableFormatter.formatCell("Позиций", LINES_WIDTH) +
+                TableFormatter.formatCell("Сумма", AMOUNT_WIDTH) +
+                TableFormatter.formatCell("Кассир", CASHIER_WIDTH) +
+                TableFormatter.formatCell("Дата", DATE_WIDTH);
+    }
+
+    @Override
+    public String toTableRow() {
+        return TableFormatter.formatCell(id, ID_WIDTH) +
+                TableFormatter.formatCell(lines.size(), LINES_WIDTH) +
+                TableFormatter.formatCell(totalAmount, AMOUNT_WIDTH) +
+                TableFormatter.formatCell(cashier != null ? cashier.getFullName() : "-", CASHIER_WIDTH) +
+                TableFormatter.formatCell(getFormattedReceiptDate(), DATE_WIDTH);
+    }
+
+    @Override
+    public String getTableDivider() {
+        return TableFormatter.createDivider(ID_WIDTH, LINES_WIDTH, AMOUNT_WIDTH, CASHIER_WIDTH, DATE_WIDTH);
+    }
+
+    public String getFormattedReceiptDate() {
+        return receiptDate != null ?
+                receiptDate.toLocalDateTime().format(DATE_FORMATTER) : "-";
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getCashier() {
+        return cashier;
+    }
+
+    public void setCashier(User cashier) {
+        this.cashier = cashier;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return Money.toBigDecimal(totalAmount);
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = Money.of(totalAmount);
+    }
+
+    public Money getTotalAmountMoney() {
+        return totalAmount;
+    }
+
+    public void setTotalAmountMoney(Money totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public Timestamp getReceiptDate() {
+        return receiptDate;
+    }
+
+    public void setReceiptDate(Timestamp receiptDate) {
+        this.receiptDate = receiptDate;
+    }
+
+    public List<Sale> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<Sale> lines) {
+        this.lines = lines;
+    }
+}
\ No newline at end of file
@@ -3,10 +3,15 @@ package model;
 import util.TableFormatter;
 
 public record Role(Long id, String name) implements FormattableEntity {
+    public static final String DIRECTOR = "Директор";
 
     private static final int ID_WIDTH = 5;
     private static final int NAME_WIDTH = 30;
 
+    public boolean isDirector() {
+        return DIRECTOR.equals(name);
+    }
+
     @Override
     public String toString() {
         return "Роль: id=" + id + ", название='" + name;
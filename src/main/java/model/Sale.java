@@ -11,8 +11,9 @@ public class Sale implements FormattableEntity {
     private Product product;
     private Integer quantity;
     private User cashier;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private Timestamp saleDate;
+    private Long receiptId;
 
     private static final int ID_WIDTH = 5;
     private static final int PRODUCT_WIDTH = 30;
@@ -23,6 +24,10 @@ public class Sale implements FormattableEntity {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     public Sale(Long id, Product product, Integer quantity, User cashier, BigDecimal totalAmount, Timestamp saleDate) {
+        this(id, product, quantity, cashier, Money.of(totalAmount), saleDate);
+    }
+
+    public Sale(Long id, Product product, Integer quantity, User cashier, Money totalAmount, Timestamp saleDate) {
         this.id = id;
         this.product = product;
         this.quantity = quantity;
@@ -105,10 +110,18 @@ public class Sale implements FormattableEntity {
     }
 
     public BigDecimal getTotalAmount() {
-        return totalAmount;
+        return Money.toBigDecimal(totalAmount);
     }
 
     public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = Money.of(totalAmount);
+    }
+
+    public Money getTotalAmountMoney() {
+        return totalAmount;
+    }
+
+    public void setTotalAmountMoney(Money totalAmount) {
         this.totalAmount = totalAmount;
     }
 
@@ -119,4 +132,12 @@ public class Sale implements FormattableEntity {
     public void setSaleDate(Timestamp saleDate) {
         this.saleDate = saleDate;
     }
+
+    public Long getReceiptId() {
+        return receiptId;
+    }
+
+    public void setReceiptId(Long receiptId) {
+        this.receiptId = receiptId;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package model;
+
+import util.TableFormatter;
+
+public record SalesBreakdown(String groupName, String subgroupName, int rollupLevel,
+                             long quantity, Money revenue, long salesCount) implements FormattableEntity {
+
+    private static final int GROUP_WIDTH = 30;
+    private static final int SUBGROUP_WIDTH = 30;
+    private static final int QUANTITY_WIDTH = 12;
+    private static final int REVENUE_WIDTH = 15;
+    private static final int COUNT_WIDTH = 10;
+
+    public boolean isTotal() {
+        return rollupLevel > 0 && groupName == null;
+    }
+
+    public boolean isSubtotal() {
+        return rollupLevel > 0 && groupName != null;
+    }
+
+    private String groupLabel() {
+        return isTotal() ? "Итого" : groupName;
+    }
+
+    private String subgroupLabel() {
+        return isSubtotal() ? "Всего" : subgroupName;
+    }
+
+    @Override
+    public String toString() {
+        return "Продажи '" + groupLabel() + (subgroupName != null ? " / " + subgroupName : "") +
+                "': количество=" + quantity + ", выручка=" + revenue + ", продаж=" + salesCount;
+    }
+
+    @Override
+    public String getTableHeader() {
+        return TableFormatter.formatCell("Группа", GROUP_WIDTH) +
+                TableFormatter.formatCell("Подгруппа", SUBGROUP_WIDTH) +
+                TableFormatter.formatCell("Количество", QUANTITY_WIDTH) +
+                TableFormatter.formatCell("Выручка", REVENUE_WIDTH) +
+                TableFormatter.formatCell("Продаж", COUNT_WIDTH);
+    }
+
+    @Override
+    public String toTableRow() {
+        return TableFormatter.formatCell(groupLabel(), GROUP_WIDTH) +
+                TableFormatter.formatCell(subgroupLabel() != null ? subgroupLabel() : "", SUBGROUP_WIDTH) +
+                TableFormatter.formatCell(quantity, QUANTITY_WIDTH) +
+                TableFormatter.formatCell(revenue, REVENUE_WIDTH) +
+                TableFormatter.formatCell(salesCount, COUNT_WIDTH);
+    }
+
+    @Override
+    public String getTableDivider() {
+        return TableFormatter.createDivider(GROUP_WIDTH, SUBGROUP_WIDTH, QUANTITY_WIDTH, REVENUE_WIDTH, COUNT_WIDTH);
+    }
+}
\ No newline at end of file
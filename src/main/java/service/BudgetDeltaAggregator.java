@@ -0,0 +1,243 @@
+package service;
+
+import dao.Page;
+import dao.impl.MonthlyBudgetDao;
+import model.BudgetDelta;
+import model.Money;
+import model.MonthlyBudget;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import static util.LoggerUtil.error;
+import static util.LoggerUtil.info;
+
+public class BudgetDeltaAggregator {
+    private static final long FLUSH_INTERVAL_MILLIS = 1_000;
+    private static final int FLUSH_EVENT_THRESHOLD = 100;
+    private static final int MAX_FLUSH_ATTEMPTS = 5;
+    private static final long READ_FLUSH_TIMEOUT_MILLIS = 5_000;
+
+    private static BudgetDeltaAggregator instance;
+
+    private final MonthlyBudgetDao budgetDao;
+    private final Map<LocalDate, MonthDelta> deltas = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final AtomicInteger failedFlushes = new AtomicInteger();
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean closed;
+
+    private BudgetDeltaAggregator() {
+        this(new MonthlyBudgetDao());
+    }
+
+    BudgetDeltaAggregator(MonthlyBudgetDao budgetDao) {
+        this.budgetDao = budgetDao;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("budget-flush").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::scheduledFlush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public static synchronized BudgetDeltaAggregator getInstance() {
+        if (instance == null) {
+            instance = new BudgetDeltaAggregator();
+        }
+        return instance;
+    }
+
+    public void add(LocalDate budgetDate, BigDecimal incomeDelta, BigDecimal expenseDelta, Long directorId) {
+        deltas.computeIfAbsent(budgetDate, date -> new MonthDelta(directorId))
+                .add(Money.of(incomeDelta).cents(), Money.of(expenseDelta).cents());
+
+        if (closed) {
+            flush();
+        } else if (pendingEvents.incrementAndGet() == FLUSH_EVENT_THRESHOLD) {
+            requestFlush();
+        }
+    }
+
+    public <R> R read(Supplier<R> query) {
+        flushBeforeRead();
+        flushLock.readLock().lock();
+        try {
+            R result = query.get();
+            mergePending(result);
+            return result;
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    public boolean flush() {
+        flushLock.writeLock().lock();
+        List<BudgetDelta> batch = List.of();
+        try {
+            pendingEvents.set(0);
+            batch = drain();
+            if (batch.isEmpty()) {
+                return true;
+            }
+
+            int[] applied = budgetDao.addActuals(batch);
+            if (applied.length == batch.size()) {
+                failedFlushes.set(0);
+                info("Записаны изменения месячных бюджетов: " + batch.size());
+                return true;
+            }
+            flushFailed(batch, null);
+        } catch (RuntimeException e) {
+            flushFailed(batch, e);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+        return false;
+    }
+
+    public int getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    public boolean isStalled() {
+        return failedFlushes.get() >= MAX_FLUSH_ATTEMPTS;
+    }
+
+    public int getPendingMonths() {
+        return (int) deltas.values().stream().filter(MonthDelta::isPending).count();
+    }
+
+    public void shutdown() {
+        closed = true;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void scheduledFlush() {
+        if (!isStalled()) {
+            flush();
+        }
+    }
+
+    private void flushBeforeRead() {
+        if (getPendingMonths() == 0) {
+            return;
+        }
+
+        try {
+            scheduler.submit(this::flush).get(READ_FLUSH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            error("Не удалось записать изменения месячных бюджетов перед чтением: " + e.getMessage(), e);
+        }
+    }
+
+    private void flushFailed(List<BudgetDelta> batch, RuntimeException cause) {
+        restore(batch);
+        int attempts = failedFlushes.incrementAndGet();
+        String message = "Не удалось записать изменения месячных бюджетов, неудачных попыток подряд: " + attempts;
+        if (attempts == MAX_FLUSH_ATTEMPTS) {
+            message += ", автоматическая запись остановлена до ручного повтора";
+        }
+        if (cause != null) {
+            error(message + ": " + cause.getMessage(), cause);
+        } else {
+            error(message);
+        }
+    }
+
+    private void requestFlush() {
+        if (isStalled()) {
+            return;
+        }
+
+        try {
+            scheduler.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            flush();
+        }
+    }
+
+    private List<BudgetDelta> drain() {
+        List<BudgetDelta> batch = new ArrayList<>();
+        deltas.forEach((budgetDate, delta) -> {
+            long incomeCents = delta.incomeCents.sumThenReset();
+            long expenseCents = delta.expenseCents.sumThenReset();
+            if (incomeCents != 0 || expenseCents != 0) {
+                batch.add(new BudgetDelta(budgetDate, Money.ofCents(incomeCents).toBigDecimal(), Money.ofCents(expenseCents).toBigDecimal(), delta.directorId));
+            }
+        });
+        return batch;
+    }
+
+    private void restore(List<BudgetDelta> batch) {
+        for (BudgetDelta delta : batch) {
+            deltas.get(delta.budgetDate()).add(Money.of(delta.incomeDelta()).cents(), Money.of(delta.expenseDelta()).cents());
+        }
+    }
+
+    private void mergePending(Object result) {
+        switch (result) {
+            case MonthlyBudget budget -> mergePending(budget);
+            case Optional<?> optional -> optional.ifPresent(this::mergePending);
+            case Collection<?> budgets -> budgets.forEach(this::mergePending);
+            case Page<?> page -> page.items().forEach(this::mergePending);
+            case null, default -> {
+            }
+        }
+    }
+
+    private void mergePending(MonthlyBudget budget) {
+        MonthDelta delta = deltas.get(budget.getBudgetDate().withDayOfMonth(1));
+        if (delta == null) {
+            return;
+        }
+
+        budget.setActualIncomeMoney(budget.getActualIncomeMoney().plus(Money.ofCents(delta.incomeCents.sum())));
+        budget.setActualExpensesMoney(budget.getActualExpensesMoney().plus(Money.ofCents(delta.expenseCents.sum())));
+        budget.setNetResultMoney(budget.getActualIncomeMoney().minus(budget.getActualExpensesMoney()));
+    }
+
+    private static final class MonthDelta {
+        private final LongAdder incomeCents = new LongAdder();
+        private final LongAdder expenseCents = new LongAdder();
+        private final Long directorId;
+
+        private MonthDelta(Long directorId) {
+            this.directorId = directorId;
+        }
+
+        private void add(long income, long expenses) {
+            incomeCents.add(income);
+            expenseCents.add(expenses);
+        }
+
+        private boolean isPending() {
+            return incomeCents.sum() != 0 || expenseCents.sum() != 0;
+        }
+    }
+}
@@ -3,16 +3,18 @@ package service;
 import dao.impl.ExpenseCategoryDao;
 import exception.nsee.CategoryNotFoundException;
 import model.ExpenseCategory;
+import util.ReferenceData;
 
 import java.util.List;
 import static util.EntityUtil.findAndValidate;
 
 public class ExpenseCategoryService {
     private static ExpenseCategoryService instance;
-    private final ExpenseCategoryDao categoryDao;
+    private final ReferenceData<ExpenseCategory> categories;
 
     private ExpenseCategoryService() {
-        categoryDao = new ExpenseCategoryDao();
+        ExpenseCategoryDao categoryDao = new ExpenseCategoryDao();
+        categories = new ReferenceData<>(categoryDao::tryFindAll, ExpenseCategory::id, ExpenseCategory::name);
     }
 
     public static synchronized ExpenseCategoryService getInstance() {
@@ -23,16 +25,20 @@ public class ExpenseCategoryService {
     }
 
     public List<ExpenseCategory> getAllExpenseCategories() {
-        return findAndValidate(categoryDao::findAll);
+        return findAndValidate(categories::all);
     }
 
     public ExpenseCategory getExpenseCategoryById(Long id) {
-        return categoryDao.findById(id)
+        return categories.findById(id)
                 .orElseThrow(() -> new CategoryNotFoundException("Категория затрат с ID " + id + " не найдена"));
     }
 
     public ExpenseCategory getExpenseCategoryByName(String categoryName) {
-        return categoryDao.findByName(categoryName)
+        return categories.findByName(categoryName)
                 .orElseThrow(() -> new CategoryNotFoundException("Категория затрат с именем " + categoryName + " не найдена"));
     }
+
+    public void refresh() {
+        categories.refresh();
+    }
 }
\ No newline at end of file
@@ -1,10 +1,17 @@
 package service;
 
+import dao.IdentityMap;
+import dao.Page;
+import dao.UnitOfWork;
+import dao.impl.DailyTotalDao;
 import dao.impl.ExpenseDao;
 import exception.nsee.ExpenseNotFoundException;
 import model.Expense;
 import model.ExpenseCategory;
+import model.ExpenseSourceType;
+import model.Money;
 import model.User;
+import util.DailyLedger;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
@@ -13,11 +20,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
-import static java.math.BigDecimal.ZERO;
 import static util.DateTimeUtils.convertToTimestamp;
 import static util.DateTimeUtils.extractLocalDate;
 import static util.EntityUtil.findAndValidate;
+import static util.EntityUtil.findPageAndValidate;
 import static util.LoggerUtil.*;
 import static util.ValidationUtil.*;
 
@@ -28,22 +36,26 @@ public class ExpenseService {
     private final UserService userService;
     private final ExpenseCategoryService categoryService;
     private final MonthlyBudgetService budgetService;
+    private final DailyLedger ledger;
 
     private ExpenseService() {
         this(new ExpenseDao(),
                 UserService.getInstance(),
                 ExpenseCategoryService.getInstance(),
-                MonthlyBudgetService.getInstance());
+                MonthlyBudgetService.getInstance(),
+                new DailyLedger(DailyTotalDao.expenses()::sumByDay));
     }
 
     ExpenseService(ExpenseDao expenseDao,
                    UserService userService,
                    ExpenseCategoryService categoryService,
-                   MonthlyBudgetService budgetService) {
+                   MonthlyBudgetService budgetService,
+                   DailyLedger ledger) {
         this.expenseDao = expenseDao;
         this.userService = userService;
         this.categoryService = categoryService;
         this.budgetService = budgetService;
+        this.ledger = ledger;
     }
 
     public static synchronized ExpenseService getInstance() {
@@ -57,6 +69,10 @@ public class ExpenseService {
         return findAndValidate(expenseDao::findAll, "Расходы не найдены");
     }
 
+    public Page<Expense> getExpensesPage(Long afterId, int limit) {
+        return findPageAndValidate(() -> expenseDao.findPage(afterId, limit), "Расходы не найдены");
+    }
+
     public Expense getExpenseById(Long id) {
         return expenseDao.findById(id)
                 .orElseThrow(() -> new ExpenseNotFoundException("Расход с ID " + id + " не найден"));
@@ -78,24 +94,44 @@ public class ExpenseService {
         );
     }
 
-    public Expense getExpenseByAmountAndDate(BigDecimal totalAmount, Timestamp purchaseDate) {
-        return expenseDao.findByTotalAmountAndDate(totalAmount, purchaseDate)
-                .orElseThrow(() -> new ExpenseNotFoundException("Расход не был найден"));
+    public Stream<Expense> streamExpensesByDateRange(Timestamp startDate, Timestamp endDate) {
+        validateDateRange(startDate, endDate);
+        return expenseDao.streamByDateRange(startDate, endDate);
+    }
+
+    public Page<Expense> getExpensesPageByDateRange(Timestamp startDate, Timestamp endDate, Long afterId, int limit) {
+        validateDateRange(startDate, endDate);
+        return findPageAndValidate(
+                () -> expenseDao.findPageByDateRange(startDate, endDate, afterId, limit),
+                "Расходы за период с " + startDate + " по " + endDate + " не найдены"
+        );
+    }
+
+    public BigDecimal getTotalExpenses(LocalDate startDate, LocalDate endDate) {
+        validateDateRange(startDate, endDate);
+        return ledger.sum(startDate, endDate);
+    }
+
+    public BigDecimal getTotalExpenses() {
+        return ledger.total();
     }
 
     public BigDecimal getTotalExpenses(List<Expense> expenses) {
-        return expenses.stream()
-                .map(Expense::getTotalAmount)
-                .reduce(ZERO, BigDecimal::add);
+        return Money.sum(expenses, Expense::getTotalAmountMoney).toBigDecimal();
     }
 
     public void addExpense(Expense expense) {
-        validateExpense(expense);
-        prepareExpenseBeforeSave(expense);
+        IdentityMap.run(() -> {
+            validateExpense(expense);
+            prepareExpenseBeforeSave(expense);
 
-        expenseDao.save(expense);
-        logExpenseOperation("Добавлен", expense);
-        updateBudgetAfterAdd(expense);
+            long ledgerGeneration = ledger.generation();
+            if (expenseDao.save(expense) != null) {
+                recordInLedger(ledgerGeneration, expense.getExpenseDate(), expense.getTotalAmount());
+            }
+            logExpenseOperation("Добавлен", expense);
+            updateBudgetAfterAdd(expense);
+        });
     }
 
     public void addExpense(Long categoryId, BigDecimal amount, Timestamp expenseDate) {
@@ -111,18 +147,19 @@ public class ExpenseService {
         addExpense(expense);
     }
 
-    public void addPurchaseExpense(BigDecimal totalAmount) {
+    public void addPurchaseExpense(Long purchaseId, BigDecimal totalAmount) {
         ExpenseCategory category = categoryService.getExpenseCategoryByName("Покупка товара");
         Expense expense = new Expense(
                 category,
                 totalAmount,
                 Timestamp.valueOf(LocalDateTime.now()),
                 userService.getCurrentUser());
+        expense.setSource(ExpenseSourceType.PURCHASE, purchaseId);
 
         addExpense(expense);
     }
 
-    public void addSalaryExpense(BigDecimal amount, LocalDate paymentDate) {
+    public void addSalaryExpense(Long payrollId, BigDecimal amount, LocalDate paymentDate) {
         try {
             ExpenseCategory salaryCategory = categoryService.getExpenseCategoryByName("Заработная плата");
             Timestamp paymentTimestamp = convertToTimestamp(paymentDate);
@@ -132,8 +169,12 @@ public class ExpenseService {
                     amount,
                     paymentTimestamp,
                     userService.getCurrentUser());
+            expense.setSource(ExpenseSourceType.PAYROLL, payrollId);
 
-            expenseDao.save(expense);
+            long ledgerGeneration = ledger.generation();
+            if (expenseDao.save(expense) != null) {
+                recordInLedger(ledgerGeneration, expense.getExpenseDate(), expense.getTotalAmount());
+            }
             budgetService.updateMonthlyBudgetExpense(paymentDate, amount);
             info("Добавлен расход на зарплату на сумму " + amount);
         } catch (Exception e) {
@@ -142,18 +183,23 @@ public class ExpenseService {
     }
 
     public boolean updateExpense(Expense expense) {
-        Expense oldExpense = getExpenseById(expense.getId());
-        validateExpense(expense);
+        return IdentityMap.call(() -> {
+            Expense oldExpense = getExpenseById(expense.getId());
+            validateExpense(expense);
 
-        boolean updated = expenseDao.update(expense);
+            long ledgerGeneration = ledger.generation();
+            boolean updated = expenseDao.update(expense);
 
-        if (updated) {
-            logExpenseOperation("Обновлен", expense);
-            updateBudgetAfterUpdate(oldExpense, expense);
-        } else {
-            warn("Не удалось обновить расход с ID " + expense.getId());
-        }
-        return updated;
+            if (updated) {
+                recordInLedger(ledgerGeneration, oldExpense.getExpenseDate(), oldExpense.getTotalAmount().negate());
+                recordInLedger(ledgerGeneration, expense.getExpenseDate(), expense.getTotalAmount());
+                logExpenseOperation("Обновлен", expense);
+                updateBudgetAfterUpdate(oldExpense, expense);
+            } else {
+                warn("Не удалось обновить расход с ID " + expense.getId());
+            }
+            return updated;
+        });
     }
 
     public boolean updateExpense(Long expenseId, Long categoryId, BigDecimal amount, LocalDate expenseDate) {
@@ -167,16 +213,16 @@ public class ExpenseService {
         return updateExpense(expense);
     }
 
-    public void updatePurchaseExpense(BigDecimal oldTotalAmount, BigDecimal newTotalAmount, Timestamp purchaseDate) {
-        Expense expense = getExpenseByAmountAndDate(oldTotalAmount, purchaseDate);
+    public void updatePurchaseExpense(Long purchaseId, BigDecimal oldTotalAmount, BigDecimal newTotalAmount, Timestamp purchaseDate) {
+        Expense expense = getSourceExpense(ExpenseSourceType.PURCHASE, purchaseId, oldTotalAmount, purchaseDate);
         expense.setTotalAmount(newTotalAmount);
         updateExpense(expense);
     }
 
-    public void updateSalaryExpense(BigDecimal oldAmount, BigDecimal newAmount, LocalDate paymentDate) {
+    public void updateSalaryExpense(Long payrollId, BigDecimal oldAmount, BigDecimal newAmount, LocalDate paymentDate) {
         try {
             Timestamp paymentTimestamp = convertToTimestamp(paymentDate);
-            Expense expense = getExpenseByAmountAndDate(oldAmount, paymentTimestamp);
+            Expense expense = getSourceExpense(ExpenseSourceType.PAYROLL, payrollId, oldAmount, paymentTimestamp);
             expense.setTotalAmount(newAmount);
 
             boolean updated = updateExpense(expense);
@@ -192,8 +238,10 @@ public class ExpenseService {
     public void deleteExpense(Long id) {
         Expense expense = getExpenseById(id);
 
+        long ledgerGeneration = ledger.generation();
         boolean deleted = expenseDao.deleteById(id);
         if (deleted) {
+            recordInLedger(ledgerGeneration, expense.getExpenseDate(), expense.getTotalAmount().negate());
             logExpenseOperation("Удален", expense);
             updateBudgetAfterDelete(expense);
         } else {
@@ -201,15 +249,15 @@ public class ExpenseService {
         }
     }
 
-    public void deletePurchaseExpense(BigDecimal totalCost, Timestamp purchaseDate) {
-        Expense expense = getExpenseByAmountAndDate(totalCost, purchaseDate);
+    public void deletePurchaseExpense(Long purchaseId, BigDecimal totalCost, Timestamp purchaseDate) {
+        Expense expense = getSourceExpense(ExpenseSourceType.PURCHASE, purchaseId, totalCost, purchaseDate);
         deleteExpense(expense.getId());
     }
 
-    public void deleteSalaryExpense(BigDecimal amount, LocalDate paymentDate) {
+    public void deleteSalaryExpense(Long payrollId, BigDecimal amount, LocalDate paymentDate) {
         try {
             Timestamp paymentTimestamp = convertToTimestamp(paymentDate);
-            Expense expense = getExpenseByAmountAndDate(amount, paymentTimestamp);
+            Expense expense = getSourceExpense(ExpenseSourceType.PAYROLL, payrollId, amount, paymentTimestamp);
             deleteExpense(expense.getId());
 
             info("Удален расход на зарплату на сумму " + amount);
@@ -218,6 +266,18 @@ public class ExpenseService {
         }
     }
 
+    private void recordInLedger(long ledgerGeneration, Timestamp date, BigDecimal amount) {
+        LocalDate day = date.toLocalDateTime().toLocalDate();
+        UnitOfWork.afterCommit(() -> ledger.add(ledgerGeneration, day, amount));
+    }
+
+    private Expense getSourceExpense(ExpenseSourceType sourceType, Long sourceId,
+                                     BigDecimal totalAmount, Timestamp expenseDate) {
+        return expenseDao.findBySource(sourceType, sourceId)
+                .or(() -> expenseDao.findUnlinkedByTotalAmountAndDate(totalAmount, expenseDate))
+                .orElseThrow(() -> new ExpenseNotFoundException("Расход не был найден"));
+    }
+
     private void prepareExpenseBeforeSave(Expense expense) {
         if (expense.getExpenseDate() == null) {
             expense.setExpenseDate(Timestamp.from(Instant.now()));
@@ -1,18 +1,26 @@
 package service;
 
+import dao.IdentityMap;
+import dao.Page;
+import dao.UnitOfWork;
+import dao.impl.DailyTotalDao;
 import dao.impl.IncomeDao;
 import exception.nsee.IncomeNotFoundException;
 import model.Income;
 import model.IncomeSource;
+import model.Money;
 import model.User;
+import util.DailyLedger;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static util.EntityUtil.findAndValidate;
+import static util.EntityUtil.findPageAndValidate;
 import static util.LoggerUtil.*;
 import static util.ValidationUtil.*;
 
@@ -22,22 +30,26 @@ public class IncomeService {
     private final UserService userService;
     private final IncomeSourceService sourceService;
     private final MonthlyBudgetService budgetService;
+    private final DailyLedger ledger;
 
     private IncomeService() {
         this(new IncomeDao(),
                 UserService.getInstance(),
                 IncomeSourceService.getInstance(),
-                MonthlyBudgetService.getInstance());
+                MonthlyBudgetService.getInstance(),
+                new DailyLedger(DailyTotalDao.incomes()::sumByDay));
     }
 
     IncomeService(IncomeDao incomeDao,
                   UserService userService,
                   IncomeSourceService sourceService,
-                  MonthlyBudgetService budgetService) {
+                  MonthlyBudgetService budgetService,
+                  DailyLedger ledger) {
         this.incomeDao = incomeDao;
         this.userService = userService;
         this.sourceService = sourceService;
         this.budgetService = budgetService;
+        this.ledger = ledger;
     }
 
     public static synchronized IncomeService getInstance() {
@@ -56,6 +68,10 @@ public class IncomeService {
                 .orElseThrow(() -> new IncomeNotFoundException("Доход с ID " + id + " не найден"));
     }
 
+    public Page<Income> getIncomesPage(Long afterId, int limit) {
+        return findPageAndValidate(() -> incomeDao.findPage(afterId, limit), "Доходы не найдены");
+    }
+
     public List<Income> getIncomesBySource(Long sourceId) {
         sourceService.getIncomeSourceById(sourceId);
 
@@ -73,29 +89,59 @@ public class IncomeService {
                 "Доходы за период с " + startDate + " по " + endDate + " не найдены");
     }
 
-    public BigDecimal getTotalIncome(List<Income> incomes) {
-        return incomes.stream()
-                .map(Income::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public Stream<Income> streamIncomesByDateRange(LocalDate startDate, LocalDate endDate) {
+        validateDateRange(startDate, endDate);
+
+        Timestamp start = Timestamp.valueOf(startDate.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(endDate.atTime(23, 59, 59));
+
+        return incomeDao.streamByDateRange(start, end);
     }
 
-    public Long addIncome(Income income) {
-        validateIncome(income);
+    public Page<Income> getIncomesPageByDateRange(LocalDate startDate, LocalDate endDate, Long afterId, int limit) {
+        validateDateRange(startDate, endDate);
 
-        Long id = incomeDao.save(income);
-        if (id != null) {
-            info("Добавлен новый доход с ID " + id);
+        Timestamp start = Timestamp.valueOf(startDate.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(endDate.atTime(23, 59, 59));
 
-            try {
-                LocalDate date = income.getIncomeDate().toLocalDateTime().toLocalDate();
-                BigDecimal total = income.getTotalAmount();
-                budgetService.updateMonthlyBudgetIncome(date, total);
-            } catch (Exception e) {
-                error("Ошибка при обновлении месячного бюджета: " + e.getMessage(), e);
+        return findPageAndValidate(() -> incomeDao.findPageByDateRange(start, end, afterId, limit),
+                "Доходы за период с " + startDate + " по " + endDate + " не найдены");
+    }
+
+    public BigDecimal getTotalIncome(LocalDate startDate, LocalDate endDate) {
+        validateDateRange(startDate, endDate);
+        return ledger.sum(startDate, endDate);
+    }
+
+    public BigDecimal getTotalIncome() {
+        return ledger.total();
+    }
+
+    public BigDecimal getTotalIncome(List<Income> incomes) {
+        return Money.sum(incomes, Income::getTotalAmountMoney).toBigDecimal();
+    }
+
+    public Long addIncome(Income income) {
+        return IdentityMap.call(() -> {
+            validateIncome(income);
+
+            long ledgerGeneration = ledger.generation();
+            Long id = incomeDao.save(income);
+            if (id != null) {
+                info("Добавлен новый доход с ID " + id);
+                recordInLedger(ledgerGeneration, income.getIncomeDate(), income.getTotalAmount());
+
+                try {
+                    LocalDate date = income.getIncomeDate().toLocalDateTime().toLocalDate();
+                    BigDecimal total = income.getTotalAmount();
+                    budgetService.updateMonthlyBudgetIncome(date, total);
+                } catch (Exception e) {
+                    error("Ошибка при обновлении месячного бюджета: " + e.getMessage(), e);
+                }
             }
-        }
 
-        return id;
+            return id;
+        });
     }
 
     public void addIncome(Long sourceId, BigDecimal amount, LocalDate incomeDate) {
@@ -118,40 +164,45 @@ public class IncomeService {
     }
 
     public boolean updateIncome(Income income) {
-        Income oldIncome = getIncomeById(income.getId());
-        validateIncome(income);
-
-        boolean updated = incomeDao.update(income);
-
-        if (updated) {
-            info("Обновлен доход с ID " + income.getId());
-
-            try {
-                if (oldIncome.getTotalAmount().compareTo(income.getTotalAmount()) != 0) {
-                    budgetService.updateMonthlyBudgetIncome(
-                            oldIncome.getIncomeDate().toLocalDateTime().toLocalDate(),
-                            oldIncome.getTotalAmount().negate());
-
-                    budgetService.updateMonthlyBudgetIncome(
-                            income.getIncomeDate().toLocalDateTime().toLocalDate(),
-                            income.getTotalAmount());
-                } else if (!oldIncome.getIncomeDate().equals(income.getIncomeDate())) {
-                    budgetService.updateMonthlyBudgetIncome(
-                            oldIncome.getIncomeDate().toLocalDateTime().toLocalDate(),
-                            oldIncome.getTotalAmount().negate());
-
-                    budgetService.updateMonthlyBudgetIncome(
-                            income.getIncomeDate().toLocalDateTime().toLocalDate(),
-                            income.getTotalAmount());
+        return IdentityMap.call(() -> {
+            Income oldIncome = getIncomeById(income.getId());
+            validateIncome(income);
+
+            long ledgerGeneration = ledger.generation();
+            boolean updated = incomeDao.update(income);
+
+            if (updated) {
+                info("Обновлен доход с ID " + income.getId());
+                recordInLedger(ledgerGeneration, oldIncome.getIncomeDate(), oldIncome.getTotalAmount().negate());
+                recordInLedger(ledgerGeneration, income.getIncomeDate(), income.getTotalAmount());
+
+                try {
+                    if (oldIncome.getTotalAmount().compareTo(income.getTotalAmount()) != 0) {
+                        budgetService.updateMonthlyBudgetIncome(
+                                oldIncome.getIncomeDate().toLocalDateTime().toLocalDate(),
+                                oldIncome.getTotalAmount().negate());
+
+                        budgetService.updateMonthlyBudgetIncome(
+                                income.getIncomeDate().toLocalDateTime().toLocalDate(),
+                                income.getTotalAmount());
+                    } else if (!oldIncome.getIncomeDate().equals(income.getIncomeDate())) {
+                        budgetService.updateMonthlyBudgetIncome(
+                                oldIncome.getIncomeDate().toLocalDateTime().toLocalDate(),
+                                oldIncome.getTotalAmount().negate());
+
+                        budgetService.updateMonthlyBudgetIncome(
+                                income.getIncomeDate().toLocalDateTime().toLocalDate(),
+                                income.getTotalAmount());
+                    }
+                } catch (Exception e) {
+                    error("Ошибка при обновлении месячного бюджета: " + e.getMessage(), e);
                 }
-            } catch (Exception e) {
-                error("Ошибка при обновлении месячного бюджета: " + e.getMessage(), e);
+            } else {
+                warn("Не удалось обновить доход с ID " + income.getId());
             }
-        } else {
-            warn("Не удалось обновить доход с ID " + income.getId());
-        }
 
-        return updated;
+            return updated;
+        });
     }
 
     public boolean updateIncome(Long incomeId, Long sourceId, BigDecimal amount, LocalDate incomeDate) {
@@ -168,10 +219,12 @@ public class IncomeService {
     public boolean deleteIncome(Long id) {
         Income income = getIncomeById(id);
 
+        long ledgerGeneration = ledger.generation();
         boolean deleted = incomeDao.deleteById(id);
 
         if (deleted) {
             info("Удален доход с ID " + id);
+            recordInLedger(ledgerGeneration, income.getIncomeDate(), income.getTotalAmount().negate());
             try {
                 LocalDate incomeDate = income.getIncomeDate().toLocalDateTime().toLocalDate();
                 BigDecimal amount = income.getTotalAmount().negate();
@@ -185,6 +238,11 @@ public class IncomeService {
         return deleted;
     }
 
+    private void recordInLedger(long ledgerGeneration, Timestamp date, BigDecimal amount) {
+        LocalDate day = date.toLocalDateTime().toLocalDate();
+        UnitOfWork.afterCommit(() -> ledger.add(ledgerGeneration, day, amount));
+    }
+
     private void validateIncome(Income income) {
         validateId(income.getSource().id(), "Источник дохода должен быть указан");
         validatePositiveAmount(income.getTotalAmount(), "Сумма дохода должна быть положительным числом");
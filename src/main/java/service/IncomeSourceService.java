@@ -3,17 +3,19 @@ package service;
 import dao.impl.IncomeSourceDao;
 import exception.nsee.SourceNotFoundException;
 import model.IncomeSource;
+import util.ReferenceData;
 
 import java.util.List;
 
 import static util.EntityUtil.findAndValidate;
 
 public class IncomeSourceService {
-    private final IncomeSourceDao sourceDao;
+    private final ReferenceData<IncomeSource> sources;
     private static IncomeSourceService instance;
 
     private IncomeSourceService() {
-        sourceDao = new IncomeSourceDao();
+        IncomeSourceDao sourceDao = new IncomeSourceDao();
+        sources = new ReferenceData<>(sourceDao::tryFindAll, IncomeSource::id, IncomeSource::name);
     }
 
     public static synchronized IncomeSourceService getInstance() {
@@ -24,11 +26,15 @@ public class IncomeSourceService {
     }
     
     public List<IncomeSource> getAllIncomeSources() {
-        return findAndValidate(sourceDao::findAll, "Источники дохода не найдены");
+        return findAndValidate(sources::all, "Источники дохода не найдены");
     }
 
     public IncomeSource getIncomeSourceById(Long id) {
-        return sourceDao.findById(id)
+        return sources.findById(id)
                 .orElseThrow(() -> new SourceNotFoundException("Источник дохода с ID " + id + " не найден"));
     }
+
+    public void refresh() {
+        sources.refresh();
+    }
 }
\ No newline at end of file
@@ -1,29 +1,39 @@
 package service;
 
+import dao.IdentityMap;
+import dao.Page;
+import dao.UnitOfWork;
+import dao.impl.BudgetSummaryDao;
 import dao.impl.MonthlyBudgetDao;
 import exception.nsee.BudgetNotFoundException;
+import model.BudgetSummary;
 import model.MonthlyBudget;
+import model.User;
 
 import java.math.BigDecimal;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.function.Function;
 
 import static java.math.BigDecimal.ZERO;
 import static util.DateTimeUtils.setupTimestamps;
 import static util.EntityUtil.findAndValidate;
+import static util.EntityUtil.findPageAndValidate;
 import static util.LoggerUtil.*;
 import static util.ValidationUtil.*;
 
 public class MonthlyBudgetService {
     private static MonthlyBudgetService instance;
     private final MonthlyBudgetDao budgetDao;
+    private final BudgetSummaryDao summaryDao;
     private final UserService userService;
+    private final BudgetDeltaAggregator budgetDeltas;
 
     private MonthlyBudgetService() {
         this.budgetDao = new MonthlyBudgetDao();
+        this.summaryDao = new BudgetSummaryDao();
         this.userService = UserService.getInstance();
+        this.budgetDeltas = BudgetDeltaAggregator.getInstance();
     }
 
     public static synchronized MonthlyBudgetService getInstance() {
@@ -34,16 +44,21 @@ public class MonthlyBudgetService {
     }
 
     public List<MonthlyBudget> getAllBudgets() {
-        return findAndValidate(budgetDao::findAll, "Бюджеты не найдены");
+        return findAndValidate(() -> budgetDeltas.read(budgetDao::findAll), "Бюджеты не найдены");
+    }
+
+    public Page<MonthlyBudget> getBudgetsPage(Long afterId, int limit) {
+        return findPageAndValidate(() -> budgetDeltas.read(() -> budgetDao.findPage(afterId, limit)),
+                "Бюджеты не найдены");
     }
 
     public MonthlyBudget getBudgetById(Long id) {
-        return budgetDao.findById(id)
+        return budgetDeltas.read(() -> budgetDao.findById(id))
                 .orElseThrow(() -> new BudgetNotFoundException("Бюджет с ID " + id + " не найден"));
     }
 
     public MonthlyBudget getBudgetByDate(LocalDate date) {
-        return budgetDao.findByDate(Date.valueOf(date))
+        return budgetDeltas.read(() -> budgetDao.findByDate(Date.valueOf(date)))
                 .orElseThrow(() -> new BudgetNotFoundException("Не было найдено записей на эту дату!"));
     }
 
@@ -51,18 +66,21 @@ public class MonthlyBudgetService {
         validateDateRange(startDate, endDate);
 
         return findAndValidate(
-                () -> budgetDao.findByDateRange(Date.valueOf(startDate), Date.valueOf(endDate)),
+                () -> budgetDeltas.read(() -> budgetDao.findByDateRange(Date.valueOf(startDate), Date.valueOf(endDate))),
                 "Бюджеты за период с " + startDate + " по " + endDate + " не найдены"
         );
     }
 
     public void createBudget(MonthlyBudget budget) {
-        validateBudget(budget);
-        checkBudgetDateNotExists(budget);
-        setupBudget(budget);
+        IdentityMap.run(() -> {
+            budgetDeltas.flush();
+            validateBudget(budget);
+            checkBudgetDateNotExists(budget);
+            setupBudget(budget);
 
-        Long id = budgetDao.save(budget);
-        info("Создан новый бюджет с ID " + id);
+            Long id = budgetDao.save(budget);
+            info("Создан новый бюджет с ID " + id);
+        });
     }
 
     public void createBudget(LocalDate budgetDate, BigDecimal plannedIncome, BigDecimal plannedExpenses) {
@@ -80,93 +98,48 @@ public class MonthlyBudgetService {
         createBudget(budget);
     }
 
-    public MonthlyBudget getOrCreateMonthlyBudget(LocalDate date) {
-        LocalDate firstDayOfMonth = date.withDayOfMonth(1);
-
-        try {
-            return getBudgetByDate(firstDayOfMonth);
-        } catch (BudgetNotFoundException e) {
-            return createNewMonthlyBudget(firstDayOfMonth);
-        }
-    }
-
-    private MonthlyBudget createNewMonthlyBudget(LocalDate firstDayOfMonth) {
-        MonthlyBudget budget = new MonthlyBudget(
-                null,
-                firstDayOfMonth,
-                ZERO,
-                ZERO,
-                ZERO,
-                ZERO,
-                ZERO,
-                null,
-                null,
-                userService.getCurrentUser()
-        );
-
-        createBudget(budget);
-        return budget;
-    }
-
     public boolean updateBudget(Long budgetId, BigDecimal plannedIncome, BigDecimal plannedExpenses, LocalDate budgetDate) {
-        MonthlyBudget budget = getBudgetById(budgetId);
+        return IdentityMap.call(() -> {
+            budgetDeltas.flush();
+            MonthlyBudget budget = getBudgetById(budgetId);
 
-        budget.setPlannedIncome(plannedIncome);
-        budget.setPlannedExpenses(plannedExpenses);
-        budget.setBudgetDate(budgetDate);
+            budget.setPlannedIncome(plannedIncome);
+            budget.setPlannedExpenses(plannedExpenses);
+            budget.setBudgetDate(budgetDate);
 
-        validateBudget(budget);
-        checkBudgetDateNotExistsForUpdate(budget);
+            validateBudget(budget);
+            checkBudgetDateNotExistsForUpdate(budget);
 
-        boolean updated = budgetDao.update(budget);
-        logBudgetUpdate(updated, budget);
-        return updated;
+            boolean updated = budgetDao.update(budget);
+            logBudgetUpdate(updated, budget);
+            return updated;
+        });
     }
 
-    public void updateActualValues(Long budgetId, BigDecimal actualIncome, BigDecimal actualExpenses) {
-        validatePositiveAmount(actualIncome, "Фактический доход должен быть положительным числом");
-        validatePositiveAmount(actualExpenses, "Фактические расходы должны быть положительным числом");
-
-        MonthlyBudget budget = getBudgetById(budgetId);
-        budget.setActualIncome(actualIncome);
-        budget.setActualExpenses(actualExpenses);
+    public void updateMonthlyBudgetIncome(LocalDate date, BigDecimal amount) {
+        addToMonthlyBudget(date, amount, ZERO);
+    }
 
-        boolean updated = budgetDao.update(budget);
-        if (updated) {
-            info("Обновлены фактические значения для бюджета с ID " + budgetId +
-                    ": доход = " + actualIncome + ", расходы = " + actualExpenses +
-                    ", чистый результат = " + budget.getNetResult());
-        } else {
-            warn("Не удалось обновить фактические значения для бюджета с ID " + budgetId);
-        }
+    public void updateMonthlyBudgetExpense(LocalDate date, BigDecimal amount) {
+        addToMonthlyBudget(date, ZERO, amount);
     }
 
-    public void updateMonthlyBudgetIncome(LocalDate date, BigDecimal amount) {
+    private void addToMonthlyBudget(LocalDate date, BigDecimal incomeDelta, BigDecimal expenseDelta) {
         try {
-            MonthlyBudget budget = getOrCreateMonthlyBudget(date);
-            BigDecimal newActualIncome = budget.getActualIncome().add(amount);
-
-            updateActualValues(budget.getId(), newActualIncome, budget.getActualExpenses());
+            LocalDate firstDayOfMonth = date.withDayOfMonth(1);
+            Long directorId = directorIdOf(userService.getCurrentUser());
 
-            info("Обновлен месячный бюджет на " + date.withDayOfMonth(1) +
-                    ", новый фактический доход: " + newActualIncome);
+            UnitOfWork.afterCommit(() ->
+                    budgetDeltas.add(firstDayOfMonth, incomeDelta, expenseDelta, directorId));
+            info("Запланировано обновление месячного бюджета на " + firstDayOfMonth +
+                    ": доход " + incomeDelta + ", расходы " + expenseDelta);
         } catch (Exception e) {
             error("Ошибка при обновлении месячного бюджета: " + e.getMessage(), e);
         }
     }
 
-    public void updateMonthlyBudgetExpense(LocalDate date, BigDecimal amount) {
-        try {
-            MonthlyBudget budget = getOrCreateMonthlyBudget(date);
-            BigDecimal newActualExpenses = budget.getActualExpenses().add(amount);
-
-            updateActualValues(budget.getId(), budget.getActualIncome(), newActualExpenses);
-
-            info("Обновлен месячный бюджет на " + date.withDayOfMonth(1) +
-                    ", новые фактические расходы: " + newActualExpenses);
-        } catch (Exception e) {
-            error("Ошибка при обновлении месячного бюджета: " + e.getMessage(), e);
-        }
+    private Long directorIdOf(User user) {
+        return user.getRole() != null && user.getRole().isDirector() ? user.getId() : null;
     }
 
     private void checkBudgetDateNotExists(MonthlyBudget budget) {
@@ -212,35 +185,27 @@ public class MonthlyBudgetService {
         userService.getUserById(budget.getDirector().getId());
     }
 
-    private BigDecimal sumBudgetProperty(LocalDate startDate, LocalDate endDate,
-                                         Function<MonthlyBudget, BigDecimal> propertyExtractor) {
+    public BudgetSummary getBudgetSummary(LocalDate startDate, LocalDate endDate) {
         validateDateRange(startDate, endDate);
 
-        List<MonthlyBudget> budgets;
-        try {
-            budgets = getBudgetsByDateRange(startDate, endDate);
-        } catch (BudgetNotFoundException e) {
-            return ZERO;
-        }
-
-        return budgets.stream()
-                .map(propertyExtractor)
-                .reduce(ZERO, BigDecimal::add);
+        return budgetDeltas.read(() -> summaryDao
+                .findByDateRange(Date.valueOf(startDate), Date.valueOf(endDate))
+                .orElse(BudgetSummary.EMPTY));
     }
 
     public BigDecimal getTotalPlannedIncome(LocalDate startDate, LocalDate endDate) {
-        return sumBudgetProperty(startDate, endDate, MonthlyBudget::getPlannedIncome);
+        return getBudgetSummary(startDate, endDate).plannedIncome().toBigDecimal();
     }
 
     public BigDecimal getTotalPlannedExpenses(LocalDate startDate, LocalDate endDate) {
-        return sumBudgetProperty(startDate, endDate, MonthlyBudget::getPlannedExpenses);
+        return getBudgetSummary(startDate, endDate).plannedExpenses().toBigDecimal();
     }
 
     public BigDecimal getTotalActualIncome(LocalDate startDate, LocalDate endDate) {
-        return sumBudgetProperty(startDate, endDate, MonthlyBudget::getActualIncome);
+        return getBudgetSummary(startDate, endDate).actualIncome().toBigDecimal();
     }
 
     public BigDecimal getTotalActualExpenses(LocalDate startDate, LocalDate endDate) {
-        return sumBudgetProperty(startDate, endDate, MonthlyBudget::getActualExpenses);
+        return getBudgetSummary(startDate, endDate).actualExpenses().toBigDecimal();
     }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package service;
 
+import dao.IdentityMap;
 import dao.impl.PayrollDao;
+import dao.impl.PayrollStatsDao;
 import exception.nsee.PayrollNotFoundException;
 import model.Payroll;
+import model.PayrollSummary;
 import model.User;
 
 import java.math.BigDecimal;
@@ -18,11 +21,13 @@ import static util.ValidationUtil.*;
 public class PayrollService {
     private static PayrollService instance;
     private final PayrollDao payrollDao;
+    private final PayrollStatsDao payrollStatsDao;
     private final UserService userService;
     private final ExpenseService expenseService;
 
     private PayrollService() {
         payrollDao = new PayrollDao();
+        payrollStatsDao = new PayrollStatsDao();
         userService = UserService.getInstance();
         expenseService = ExpenseService.getInstance();
     }
@@ -59,14 +64,22 @@ public class PayrollService {
         );
     }
 
+    public PayrollSummary getPayrollSummary(LocalDate periodStart, LocalDate periodEnd) {
+        validateDateRange(periodStart, periodEnd);
+
+        return PayrollSummary.of(payrollStatsDao.findByPeriod(Date.valueOf(periodStart), Date.valueOf(periodEnd)));
+    }
+
     public void createPayroll(Payroll payroll) {
-        validatePayroll(payroll);
-        Long id = payrollDao.save(payroll);
+        IdentityMap.run(() -> {
+            validatePayroll(payroll);
+            Long id = payrollDao.save(payroll);
 
-        info("Создана новая запись о зарплате с ID " + id);
-        if (Boolean.TRUE.equals(payroll.isPaid())) {
-            expenseService.addSalaryExpense(payroll.getTotalAmount(), payroll.getPaymentDate());
-        }
+            info("Создана новая запись о зарплате с ID " + id);
+            if (Boolean.TRUE.equals(payroll.isPaid())) {
+                expenseService.addSalaryExpense(id, payroll.getTotalAmount(), payroll.getPaymentDate());
+            }
+        });
     }
 
     public void createPayroll(Long employeeId, Float hoursWorked, BigDecimal hourlyRate,
@@ -94,54 +107,57 @@ public class PayrollService {
 
     public boolean updatePayroll(Long payrollId, Long employeeId, Float hoursWorked, BigDecimal hourlyRate,
                                  LocalDate periodStart, LocalDate periodEnd) {
-
-        Payroll existingPayroll = getPayrollById(payrollId);
-        User employee = userService.getUserById(employeeId);
-        BigDecimal oldTotalAmount = existingPayroll.getTotalAmount();
-        boolean wasPaid = Boolean.TRUE.equals(existingPayroll.isPaid());
-        LocalDate oldPaymentDate = existingPayroll.getPaymentDate() != null ?
-                existingPayroll.getPaymentDate() : null;
-        BigDecimal newTotalAmount = hourlyRate.multiply(BigDecimal.valueOf(hoursWorked));
-
-        Payroll updatedPayroll = new Payroll(
-                payrollId,
-                employee,
-                existingPayroll.getAccountant(),
-                hoursWorked,
-                hourlyRate,
-                newTotalAmount,
-                periodStart,
-                periodEnd,
-                existingPayroll.getPaymentDate(),
-                existingPayroll.isPaid(),
-                existingPayroll.getCreatedAt(),
-                null
-        );
-
-        boolean updated = updatePayroll(updatedPayroll);
-
-        if (updated && wasPaid && oldPaymentDate != null) {
-            try {
-                expenseService.updateSalaryExpense(oldTotalAmount, newTotalAmount, oldPaymentDate);
-            } catch (Exception e) {
-                error("Ошибка при обновлении расхода для зарплаты ID " + payrollId + ": " + e.getMessage(), e);
+        return IdentityMap.call(() -> {
+            Payroll existingPayroll = getPayrollById(payrollId);
+            User employee = userService.getUserById(employeeId);
+            BigDecimal oldTotalAmount = existingPayroll.getTotalAmount();
+            boolean wasPaid = Boolean.TRUE.equals(existingPayroll.isPaid());
+            LocalDate oldPaymentDate = existingPayroll.getPaymentDate() != null ?
+                    existingPayroll.getPaymentDate() : null;
+            BigDecimal newTotalAmount = hourlyRate.multiply(BigDecimal.valueOf(hoursWorked));
+
+            Payroll updatedPayroll = new Payroll(
+                    payrollId,
+                    employee,
+                    existingPayroll.getAccountant(),
+                    hoursWorked,
+                    hourlyRate,
+                    newTotalAmount,
+                    periodStart,
+                    periodEnd,
+                    existingPayroll.getPaymentDate(),
+                    existingPayroll.isPaid(),
+                    existingPayroll.getCreatedAt(),
+                    null
+            );
+
+            boolean updated = updatePayroll(updatedPayroll);
+
+            if (updated && wasPaid && oldPaymentDate != null) {
+                try {
+                    expenseService.updateSalaryExpense(payrollId, oldTotalAmount, newTotalAmount, oldPaymentDate);
+                } catch (Exception e) {
+                    error("Ошибка при обновлении расхода для зарплаты ID " + payrollId + ": " + e.getMessage(), e);
+                }
             }
-        }
 
-        return updated;
+            return updated;
+        });
     }
 
     public boolean updatePayroll(Payroll payroll) {
-        validatePayroll(payroll);
-
-        boolean updated = payrollDao.update(payroll);
-        if (updated) {
-            info("Обновлена запись о зарплате с ID " + payroll.getId());
-        } else {
-            warn("Не удалось обновить запись о зарплате с ID " + payroll.getId());
-        }
+        return IdentityMap.call(() -> {
+            validatePayroll(payroll);
+
+            boolean updated = payrollDao.update(payroll);
+            if (updated) {
+                info("Обновлена запись о зарплате с ID " + payroll.getId());
+            } else {
+                warn("Не удалось обновить запись о зарплате с ID " + payroll.getId());
+            }
 
-        return updated;
+            return updated;
+        });
     }
 
     public void markAsPaid(Long payrollId, LocalDate paymentDate) {
@@ -158,7 +174,7 @@ public class PayrollService {
                     " помечена как выплаченная с датой выплаты " + paymentDate);
 
             Payroll updatedPayroll = getPayrollById(payrollId);
-            expenseService.addSalaryExpense(updatedPayroll.getTotalAmount(), updatedPayroll.getPaymentDate());
+            expenseService.addSalaryExpense(payrollId, updatedPayroll.getTotalAmount(), updatedPayroll.getPaymentDate());
         } else {
             warn("Не удалось пометить запись о зарплате с ID " + payrollId + " как выплаченную");
         }
@@ -178,7 +194,7 @@ public class PayrollService {
 
             if (deleted) {
                 try {
-                    expenseService.deleteSalaryExpense(totalAmount, paymentDate);
+                    expenseService.deleteSalaryExpense(id, totalAmount, paymentDate);
                 } catch (Exception e) {
                     error("Ошибка при удалении связанных записей для зарплаты ID " + id + ": " + e.getMessage(), e);
                 }
@@ -3,16 +3,19 @@ package service;
 import dao.impl.ProductCategoryDao;
 import exception.nsee.CategoryNotFoundException;
 import model.ProductCategory;
+import util.ReferenceData;
 
 import java.util.List;
+import java.util.Optional;
 
 import static util.EntityUtil.findAndValidate;
 
 public class ProductCategoryService {
     private static ProductCategoryService instance;
-    private final ProductCategoryDao categoryDao;
+    private final ReferenceData<ProductCategory> categories;
     private ProductCategoryService() {
-        categoryDao = new ProductCategoryDao();
+        ProductCategoryDao categoryDao = new ProductCategoryDao();
+        categories = new ReferenceData<>(categoryDao::tryFindAll, ProductCategory::id, ProductCategory::name);
     }
 
     public static synchronized ProductCategoryService getInstance() {
@@ -23,11 +26,19 @@ public class ProductCategoryService {
     }
 
     public List<ProductCategory> getAllCategories() {
-        return findAndValidate(categoryDao::findAll);
+        return findAndValidate(categories::all);
     }
 
     public ProductCategory getCategoryById(Long id) {
-        return categoryDao.findById(id)
+        return findCategoryById(id)
                 .orElseThrow(() -> new CategoryNotFoundException("Категория с ID " + id + " не найдена"));
     }
+
+    public Optional<ProductCategory> findCategoryById(Long id) {
+        return categories.findById(id);
+    }
+
+    public void refresh() {
+        categories.refresh();
+    }
 }
\ No newline at end of file
@@ -1,13 +1,21 @@
 package service;
 
+import dao.IdentityMap;
+import dao.UnitOfWork;
 import dao.impl.ProductDao;
 import model.Product;
 import model.ProductCategory;
+import util.LruCache;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static util.EntityUtil.findAndValidate;
 import static util.LoggerUtil.info;
@@ -15,9 +23,12 @@ import static util.LoggerUtil.warn;
 import static util.ValidationUtil.*;
 
 public class ProductService {
+    private static final int PRODUCT_CACHE_SIZE = 256;
+
     private static ProductService instance;
     private final ProductDao productDao;
     private final ProductCategoryService productCategoryService;
+    private final LruCache<Long, Product> productCache = new LruCache<>(PRODUCT_CACHE_SIZE);
 
     private ProductService() {
         productDao = new ProductDao();
@@ -36,10 +47,39 @@ public class ProductService {
     }
 
     public Product getProductById(Long id) {
-        return productDao.findById(id)
+        return IdentityMap.find(Product.class, id, this::loadProduct)
                 .orElseThrow(() -> new IllegalArgumentException("Продукт с ID " + id + " не найден"));
     }
 
+    public Map<Long, Product> getProductsByIds(Collection<Long> ids) {
+        Map<Long, Product> products = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            productCache.getIfPresent(id).ifPresentOrElse(
+                    product -> products.put(id, copyOf(product)),
+                    () -> missing.add(id));
+        }
+
+        if (!missing.isEmpty()) {
+            long generation = productCache.generation();
+            for (Product product : productDao.findAllByIds(missing)) {
+                productCache.putIfCurrent(product.getId(), product, generation);
+                products.put(product.getId(), copyOf(product));
+            }
+        }
+
+        for (Long id : ids) {
+            if (!products.containsKey(id)) {
+                throw new IllegalArgumentException("Продукт с ID " + id + " не найден");
+            }
+        }
+        return products;
+    }
+
+    public LruCache.Stats getCacheStats() {
+        return productCache.getStats();
+    }
+
     public void addProduct(String name, Long categoryId, BigDecimal buyPrice, BigDecimal sellPrice) {
         ProductCategory category = productCategoryService.getCategoryById(categoryId);
         Product product = new Product(null, name, category, buyPrice, sellPrice);
@@ -68,6 +108,7 @@ public class ProductService {
         product.setUpdatedAt(now);
 
         boolean updated = productDao.update(product);
+        invalidate(product.getId());
         if (updated) {
             info("Обновлен продукт с ID " + product.getId() + ": " + product.getName());
         } else {
@@ -78,6 +119,7 @@ public class ProductService {
     public void deleteProduct(Long id) {
         getProductById(id);
         boolean deleted = productDao.deleteById(id);
+        invalidate(id);
 
         if (deleted) {
             info("Удален продукт с ID " + id);
@@ -92,4 +134,33 @@ public class ProductService {
         validatePositiveAmount(product.getBuyPrice(), "Цена закупки должна быть положительной");
         validatePositiveAmount(product.getSellPrice(), "Цена продажи должна быть неотрицательной");
     }
+
+    private Optional<Product> loadProduct(Long id) {
+        return productCache.getOrLoad(id, productDao::findById).map(this::copyOf);
+    }
+
+    private void invalidate(Long id) {
+        IdentityMap.evict(Product.class, id);
+        productCache.invalidate(id);
+        UnitOfWork.afterCommit(() -> productCache.invalidate(id));
+    }
+
+    private Product copyOf(Product product) {
+        return new Product(
+                product.getId(),
+                product.getName(),
+                currentCategory(product.getCategory()),
+                product.getBuyPrice(),
+                product.getSellPrice(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+
+    private ProductCategory currentCategory(ProductCategory category) {
+        if (category == null || category.id() == null) {
+            return category;
+        }
+        return productCategoryService.findCategoryById(category.id()).orElse(category);
+    }
 }
\ No newline at end of file
@@ -1,15 +1,16 @@
 package service;
 
+import dao.IdentityMap;
 import dao.impl.PurchaseDao;
 import exception.nsee.PurchaseNotFoundException;
 import exception.StockUpdateException;
 import model.Product;
 import model.Purchase;
 import model.Stock;
+import util.Metrics;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
-import java.time.LocalDate;
 import java.util.List;
 
 import static util.EntityUtil.findAndValidate;
@@ -23,7 +24,6 @@ public class PurchaseService {
     private final StockService stockService;
     private final UserService userService;
     private final ExpenseService expenseService;
-    private final MonthlyBudgetService budgetService;
 
     private PurchaseService() {
         purchaseDao = new PurchaseDao();
@@ -31,7 +31,6 @@ public class PurchaseService {
         stockService = StockService.getInstance();
         userService = UserService.getInstance();
         expenseService = ExpenseService.getInstance();
-        budgetService = MonthlyBudgetService.getInstance();
     }
 
     public static synchronized PurchaseService getInstance() {
@@ -54,27 +53,23 @@ public class PurchaseService {
     }
 
     public void addPurchase(Purchase purchase) {
-        validatePurchase(purchase);
+        Metrics.run("PurchaseService.addPurchase", () -> IdentityMap.run(() -> {
+            validatePurchase(purchase);
 
-        Long purchaseId = purchaseDao.save(purchase);
-        info("Добавлена новая закупка с ID " + purchaseId);
+            Long purchaseId = purchaseDao.save(purchase);
+            info("Добавлена новая закупка с ID " + purchaseId);
 
-        updateStockAfterPurchase(purchase.getProduct().getId(), purchase.getQuantity());
+            updateStockAfterPurchase(purchase.getProduct().getId(), purchase.getQuantity());
 
-        try {
-            expenseService.addPurchaseExpense(purchase.getTotalCost());
-            info("Автоматически добавлен расход для закупки ID " + purchaseId);
-
-            LocalDate date = purchase.getPurchaseDate().toLocalDateTime().toLocalDate();
-            BigDecimal totalCost = purchase.getTotalCost();
-
-            budgetService.updateMonthlyBudgetExpense(date, totalCost);
-        } catch (Exception e) {
-            error("Не удалось добавить расход для закупки ID " + purchaseId + ": " + e.getMessage(), e);
-        }
+            try {
+                expenseService.addPurchaseExpense(purchaseId, purchase.getTotalCost());
+                info("Автоматически добавлен расход для закупки ID " + purchaseId);
+            } catch (Exception e) {
+                error("Не удалось добавить расход для закупки ID " + purchaseId + ": " + e.getMessage(), e);
+            }
+        }));
     }
 
-
     public void addPurchase(Long productId, Integer quantity, BigDecimal totalCost) {
         validateId(productId, "ID продукта должен быть указан");
         validateQuantity(quantity);
@@ -94,7 +89,8 @@ public class PurchaseService {
     public void updatePurchase(Long purchaseId, Integer quantity) {
         Purchase existingPurchase = getPurchaseById(purchaseId);
 
-        BigDecimal newTotalCost = existingPurchase.getProduct().getBuyPrice().multiply(new BigDecimal(quantity));
+        Product product = productService.getProductById(existingPurchase.getProduct().getId());
+        BigDecimal newTotalCost = product.getBuyPrice().multiply(new BigDecimal(quantity));
 
         Purchase updatePurchase = new Purchase(
                 purchaseId,
@@ -116,14 +112,8 @@ public class PurchaseService {
             }
 
             try {
-                BigDecimal costDifference = updatePurchase.getTotalCost().subtract(existingPurchase.getTotalCost());
-
-                expenseService.updatePurchaseExpense(existingPurchase.getTotalCost(), updatePurchase.getTotalCost(), existingPurchase.getPurchaseDate());
+                expenseService.updatePurchaseExpense(existingPurchase.getId(), existingPurchase.getTotalCost(), updatePurchase.getTotalCost(), existingPurchase.getPurchaseDate());
                 info("Обновлена закупка с ID " + existingPurchase.getId());
-
-                if (costDifference.compareTo(BigDecimal.ZERO) != 0) {
-                    budgetService.updateMonthlyBudgetExpense(existingPurchase.getPurchaseDate().toLocalDateTime().toLocalDate(), costDifference);
-                }
             } catch (Exception e) {
                 error("Не удалось обновить расход для закупки ID " + existingPurchase.getId() + ": " + e.getMessage(), e);
             }
@@ -141,8 +131,7 @@ public class PurchaseService {
             info("Удалена закупка с ID " + id);
 
             try {
-                expenseService.deletePurchaseExpense(purchase.getTotalCost(), purchase.getPurchaseDate());
-                budgetService.updateMonthlyBudgetExpense(purchase.getPurchaseDate().toLocalDateTime().toLocalDate(), purchase.getTotalCost().negate());
+                expenseService.deletePurchaseExpense(id, purchase.getTotalCost(), purchase.getPurchaseDate());
             } catch (Exception e) {
                 error("Не удалось удалить расход для закупки ID " + id + ": " + e.getMessage(), e);
             }
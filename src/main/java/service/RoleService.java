@@ -2,16 +2,18 @@ package service;
 
 import dao.impl.RoleDao;
 import model.Role;
+import util.ReferenceData;
 
 import java.util.List;
 
 import static util.EntityUtil.findAndValidate;
 public class RoleService {
     private static RoleService instance;
-    private final RoleDao roleDao;
+    private final ReferenceData<Role> roles;
 
     private RoleService() {
-        roleDao = new RoleDao();
+        RoleDao roleDao = new RoleDao();
+        roles = new ReferenceData<>(roleDao::tryFindAll, Role::id, Role::name);
     }
 
     public static synchronized RoleService getInstance() {
@@ -22,6 +24,10 @@ public class RoleService {
     }
     
     public List<Role> getAllRoles() {
-        return findAndValidate(roleDao::findAll);
+        return findAndValidate(roles::all);
+    }
+
+    public void refresh() {
+        roles.refresh();
     }
 }
\ No newline at end of file
@@ -1,21 +1,30 @@
 package service;
 
+import dao.IdentityMap;
+import dao.Page;
+import dao.UnitOfWork;
+import dao.impl.ReceiptDao;
 import dao.impl.SaleDao;
-import exception.StockUpdateException;
+import dao.impl.SalesDailySummaryDao;
+import model.DailySalesSummary;
 import model.Income;
 import model.IncomeSource;
+import model.Money;
 import model.Product;
+import model.Receipt;
 import model.Sale;
-import model.Stock;
 import model.User;
+import util.Metrics;
 
 import java.math.BigDecimal;
+import java.sql.Date;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static util.EntityUtil.findAndValidate;
+import static util.EntityUtil.findPageAndValidate;
 import static util.LoggerUtil.*;
 import static util.ValidationUtil.*;
 
@@ -24,33 +33,37 @@ public class SaleService {
 
     private static SaleService instance;
     private final SaleDao saleDao;
+    private final ReceiptDao receiptDao;
+    private final SalesDailySummaryDao summaryDao;
     private final UserService userService;
     private final ProductService productService;
     private final StockService stockService;
     private final IncomeService incomeService;
-    private final MonthlyBudgetService budgetService;
 
     private SaleService() {
         this(new SaleDao(),
+                new ReceiptDao(),
+                new SalesDailySummaryDao(),
                 UserService.getInstance(),
                 ProductService.getInstance(),
                 StockService.getInstance(),
-                IncomeService.getInstance(),
-                MonthlyBudgetService.getInstance());
+                IncomeService.getInstance());
     }
 
     SaleService(SaleDao saleDao,
+                ReceiptDao receiptDao,
+                SalesDailySummaryDao summaryDao,
                 UserService userService,
                 ProductService productService,
                 StockService stockService,
-                IncomeService incomeService,
-                MonthlyBudgetService budgetService) {
+                IncomeService incomeService) {
         this.saleDao = saleDao;
+        this.receiptDao = receiptDao;
+        this.summaryDao = summaryDao;
         this.userService = userService;
         this.productService = productService;
         this.stockService = stockService;
         this.incomeService = incomeService;
-        this.budgetService = budgetService;
     }
 
     public static synchronized SaleService getInstance() {
@@ -86,17 +99,49 @@ public class SaleService {
         );
     }
 
+    public Page<Sale> getSalesPageByDateRange(LocalDate startDate, LocalDate endDate, Long afterId, int limit) {
+        validateDateRange(startDate, endDate);
+
+        Timestamp start = Timestamp.valueOf(startDate.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(endDate.atTime(23, 59, 59));
+
+        return findPageAndValidate(
+                () -> saleDao.findPageByDateRange(start, end, afterId, limit),
+                "Продажи за период с " + startDate + " по " + endDate + " не найдены"
+        );
+    }
+
+    public List<DailySalesSummary> getDailySummary(LocalDate startDate, LocalDate endDate) {
+        validateDateRange(startDate, endDate);
+
+        return findAndValidate(
+                () -> summaryDao.findByDateRange(Date.valueOf(startDate), Date.valueOf(endDate)),
+                "Продажи за период с " + startDate + " по " + endDate + " не найдены"
+        );
+    }
+
+    public long rebuildDailySummary() {
+        long rows = UnitOfWork.call(summaryDao::rebuild);
+        info("Сводка продаж по дням пересчитана, строк: " + rows);
+        return rows;
+    }
+
     public Sale addSale(Sale sale) {
-        validateSale(sale);
-        verifyStockAvailability(sale.getProduct().getId(), sale.getQuantity());
-        prepareSaleData(sale);
+        return Metrics.time("SaleService.addSale", () -> IdentityMap.call(() -> {
+            validateSale(sale);
+
+            return UnitOfWork.call(() -> {
+                stockService.decrementStock(sale.getProduct().getId(), sale.getQuantity());
+                prepareSaleData(sale);
 
-        Long id = saleDao.save(sale);
+                Long id = saleDao.save(sale);
+                summaryDao.addSale(sale);
 
-        updateStockAfterSale(sale.getProduct().getId(), sale.getQuantity());
-        addSaleToIncome(sale);
-        info("Добавлена новая продажа с ID " + id);
-        return sale;
+                addSaleToIncome(sale);
+                info("Добавлена новая продажа с ID " + id);
+                return sale;
+            });
+        }));
     }
 
     public Sale addSale(Long productId, Integer quantity, LocalDateTime saleDateTime) {
@@ -105,7 +150,7 @@ public class SaleService {
         Product product = productService.getProductById(productId);
         User cashier = userService.getCurrentUser();
 
-        BigDecimal totalAmount = calculateTotalAmount(product, quantity);
+        Money totalAmount = calculateTotalAmount(product, quantity);
         Timestamp saleTimestamp = saleDateTime != null
                 ? Timestamp.valueOf(saleDateTime)
                 : Timestamp.valueOf(LocalDateTime.now());
@@ -122,37 +167,52 @@ public class SaleService {
         return addSale(sale);
     }
 
-    private void addSaleToIncome(Sale sale) {
-        try {
-            IncomeSource salesSource = IncomeSourceService.getInstance()
-                    .getIncomeSourceById(SALES_INCOME_SOURCE_ID);
+    public Receipt checkout(Map<Long, Integer> basket) {
+        return Metrics.time("SaleService.checkout", () -> IdentityMap.call(() -> {
+            validateBasket(basket);
+            User cashier = userService.getCurrentUser();
+            Map<Long, Product> products = productService.getProductsByIds(basket.keySet());
+            Timestamp receiptDate = Timestamp.valueOf(LocalDateTime.now());
+
+            List<Sale> lines = new ArrayList<>(basket.size());
+            Money total = Money.ZERO;
+            for (Map.Entry<Long, Integer> item : basket.entrySet()) {
+                Product product = products.get(item.getKey());
+                Money amount = calculateTotalAmount(product, item.getValue());
+                lines.add(new Sale(null, product, item.getValue(), cashier, amount, receiptDate));
+                total = total.plus(amount);
+            }
 
-            Income income = new Income(
-                    null,
-                    salesSource,
-                    sale.getTotalAmount(),
-                    sale.getSaleDate(),
-                    sale.getCashier()
-            );
+            Receipt receipt = new Receipt(null, cashier, total, receiptDate, lines);
 
-            Long incomeId = incomeService.addIncome(income);
+            return UnitOfWork.call(() -> {
+                stockService.decrementStock(basket);
 
-            if (incomeId != null) {
-                info("Добавлен новый доход на основе продажи с ID " + sale.getId() +
-                        ", сумма: " + sale.getTotalAmount());
+                Long receiptId = receiptDao.save(receipt);
+                lines.forEach(line -> line.setReceiptId(receiptId));
+                saleDao.saveAll(lines);
+                summaryDao.addSales(lines);
 
-                updateBudgetIncome(sale.getSaleDate(), sale.getTotalAmount());
-            }
-        } catch (Exception e) {
-            error("Ошибка при добавлении продажи в доходы: " + e.getMessage(), e);
-        }
+                addSalesIncome(receipt.getTotalAmount(), receiptDate, cashier);
+                info("Оформлен чек с ID " + receiptId + ", позиций: " + lines.size() +
+                        ", сумма: " + receipt.getTotalAmount());
+                return receipt;
+            });
+        }));
     }
 
-    private void updateBudgetIncome(Timestamp saleDate, BigDecimal amount) {
-        LocalDate date = saleDate.toLocalDateTime().toLocalDate();
-        budgetService.updateMonthlyBudgetIncome(date, amount);
+    private void addSaleToIncome(Sale sale) {
+        addSalesIncome(sale.getTotalAmount(), sale.getSaleDate(), sale.getCashier());
+        info("Добавлен новый доход на основе продажи с ID " + sale.getId() +
+                ", сумма: " + sale.getTotalAmount());
     }
 
+    private void addSalesIncome(BigDecimal amount, Timestamp date, User cashier) {
+        IncomeSource salesSource = IncomeSourceService.getInstance()
+                .getIncomeSourceById(SALES_INCOME_SOURCE_ID);
+
+        incomeService.addIncome(new Income(null, salesSource, amount, date, cashier));
+    }
 
     private void prepareSaleData(Sale sale) {
         if (sale.getSaleDate() == null) {
@@ -168,45 +228,24 @@ public class SaleService {
         }
     }
 
-    private void verifyStockAvailability(Long productId, int requiredQuantity) {
-        Stock stock = stockService.getStockByProductId(productId);
-        if (stock.getQuantity() < requiredQuantity) {
-            throw new IllegalStateException(
-                    "Недостаточно товара на складе. Доступно: " + stock.getQuantity() +
-                            ", требуется: " + requiredQuantity
-            );
-        }
-    }
-
     private void calculateTotalAmount(Sale sale) {
         Product product = productService.getProductById(sale.getProduct().getId());
-        sale.setTotalAmount(calculateTotalAmount(product, sale.getQuantity()));
+        sale.setTotalAmountMoney(calculateTotalAmount(product, sale.getQuantity()));
     }
 
-    private BigDecimal calculateTotalAmount(Product product, int quantity) {
-        return product.getSellPrice().multiply(BigDecimal.valueOf(quantity));
+    private Money calculateTotalAmount(Product product, int quantity) {
+        return product.getSellPriceMoney().times(quantity);
     }
 
-    private void updateStock(Long productId, int quantityChange) {
-        try {
-            Stock stock = stockService.getStockByProductId(productId);
-            int newQuantity = stock.getQuantity() + quantityChange;
-
-            if (newQuantity < 0) {
-                throw new IllegalStateException("Недостаточно товара на складе для продажи");
-            }
-
-            stockService.updateStockQuantity(productId, newQuantity);
-            info("Обновлено количество товара с ID " + productId +
-                    " на складе после " + "продажи" + ": " + newQuantity);
-        } catch (Exception e) {
-            error("Ошибка при обновлении склада после " + "продажи" + ": " + e.getMessage(), e);
-            throw new StockUpdateException("Ошибка при обновлении склада после продажи");
+    private void validateBasket(Map<Long, Integer> basket) {
+        Objects.requireNonNull(basket, "Корзина не может быть null");
+        if (basket.isEmpty()) {
+            throw new IllegalArgumentException("Корзина пуста");
         }
-    }
-
-    private void updateStockAfterSale(Long productId, Integer quantity) {
-        updateStock(productId, -quantity);
+        basket.forEach((productId, quantity) -> {
+            validateId(productId);
+            validateQuantity(quantity);
+        });
     }
 
     private void validateSale(Sale sale) {
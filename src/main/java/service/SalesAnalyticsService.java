@@ -0,0 +1,76 @@
+package service;
+
+import dao.impl.SalesAnalyticsDao;
+import exception.nsee.SaleNotFoundException;
+import model.SalesBreakdown;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static util.DateTimeUtils.endOfDay;
+import static util.DateTimeUtils.startOfDay;
+import static util.LoggerUtil.warn;
+import static util.ValidationUtil.validateDateRange;
+
+public class SalesAnalyticsService {
+    private static SalesAnalyticsService instance;
+    private final SalesAnalyticsDao analyticsDao;
+
+    private SalesAnalyticsService() {
+        this(new SalesAnalyticsDao());
+    }
+
+    SalesAnalyticsService(SalesAnalyticsDao analyticsDao) {
+        this.analyticsDao = analyticsDao;
+    }
+
+    public static synchronized SalesAnalyticsService getInstance() {
+        if (instance == null) {
+            instance = new SalesAnalyticsService();
+        }
+        return instance;
+    }
+
+    public List<SalesBreakdown> getSalesByProduct(LocalDate startDate, LocalDate endDate) {
+        return report(startDate, endDate, analyticsDao::findByProduct);
+    }
+
+    public List<SalesBreakdown> getSalesByCategory(LocalDate startDate, LocalDate endDate) {
+        return report(startDate, endDate, analyticsDao::findByCategory);
+    }
+
+    public List<SalesBreakdown> getSalesByCashier(LocalDate startDate, LocalDate endDate) {
+        return report(startDate, endDate, analyticsDao::findByCashier);
+    }
+
+    public List<SalesBreakdown> getSalesByDay(LocalDate startDate, LocalDate endDate) {
+        return report(startDate, endDate, analyticsDao::findByDay);
+    }
+
+    public List<SalesBreakdown> getSalesByMonth(LocalDate startDate, LocalDate endDate) {
+        return report(startDate, endDate, analyticsDao::findByMonth);
+    }
+
+    public List<SalesBreakdown> getSalesByCategoryAndProduct(LocalDate startDate, LocalDate endDate) {
+        return report(startDate, endDate, analyticsDao::findByCategoryAndProduct);
+    }
+
+    public List<SalesBreakdown> getSalesByCashierAndDay(LocalDate startDate, LocalDate endDate) {
+        return report(startDate, endDate, analyticsDao::findByCashierAndDay);
+    }
+
+    private List<SalesBreakdown> report(LocalDate startDate, LocalDate endDate,
+                                        BiFunction<Timestamp, Timestamp, List<SalesBreakdown>> query) {
+        validateDateRange(startDate, endDate);
+
+        List<SalesBreakdown> rows = query.apply(startOfDay(startDate), endOfDay(endDate));
+        if (rows.stream().noneMatch(row -> row.salesCount() > 0)) {
+            String message = "Продажи за период с " + startDate + " по " + endDate + " не найдены";
+            warn(message);
+            throw new SaleNotFoundException(message);
+        }
+        return rows;
+    }
+}
\ No newline at end of file
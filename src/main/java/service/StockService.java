@@ -1,12 +1,15 @@
 package service;
 
 import dao.impl.StockDao;
+import exception.InsufficientStockException;
+import exception.StockUpdateException;
 import exception.nsee.ProductNotFoundException;
 import model.Stock;
 
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Objects.requireNonNull;
 import static util.DateTimeUtils.setupTimestamps;
@@ -93,6 +96,46 @@ public class StockService {
         }
     }
 
+    public void decrementStock(Long productId, Integer quantity) {
+        validateId(productId);
+        validateQuantity(quantity);
+
+        int affected = stockDao.decrementQuantity(productId, quantity)
+                .orElseThrow(() -> new StockUpdateException("Ошибка при списании товара со склада"));
+        if (affected == 0) {
+            Stock stock = getStockByProductId(productId);
+            throw new InsufficientStockException(
+                    "Недостаточно товара \"" + stock.getProduct().getName() + "\" на складе. Доступно: " +
+                            stock.getQuantity() + ", требуется: " + quantity
+            );
+        }
+        info("Списано " + quantity + " ед. товара с ID " + productId + " со склада");
+    }
+
+    public void decrementStock(Map<Long, Integer> quantities) {
+        quantities.forEach((productId, quantity) -> {
+            validateId(productId);
+            validateQuantity(quantity);
+        });
+
+        int[] affected = stockDao.decrementQuantities(quantities);
+        if (affected.length != quantities.size()) {
+            throw new StockUpdateException("Ошибка при списании товаров со склада");
+        }
+
+        int line = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            if (affected[line++] == 0) {
+                Stock stock = getStockByProductId(entry.getKey());
+                throw new InsufficientStockException(
+                        "Недостаточно товара \"" + stock.getProduct().getName() + "\" на складе. Доступно: " +
+                                stock.getQuantity() + ", требуется: " + entry.getValue()
+                );
+            }
+        }
+        info("Списано со склада позиций: " + quantities.size());
+    }
+
     public boolean deleteStock(Long productId) {
         validateId(productId);
         productService.getProductById(productId);
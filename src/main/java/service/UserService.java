@@ -1,5 +1,7 @@
 package service;
 
+import dao.IdentityMap;
+import dao.Page;
 import dao.impl.UserDao;
 import exception.AuthenticationException;
 import exception.nsee.UserNotFoundException;
@@ -10,12 +12,13 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import static util.EntityUtil.findAndValidate;
+import static util.EntityUtil.findPageAndValidate;
 import static util.LoggerUtil.*;
 
 public class UserService {
     private static UserService instance;
     private final UserDao userDao;
-    private User currentUser;
+    private volatile User currentUser;
 
     private UserService() {
         userDao = new UserDao();
@@ -36,6 +39,10 @@ public class UserService {
         return findAndValidate(userDao::findAll, "Сотрудники не были найдены!");
     }
 
+    public Page<User> getUsersPage(Long afterId, int limit) {
+        return findPageAndValidate(() -> userDao.findPage(afterId, limit), "Сотрудники не были найдены!");
+    }
+
     public Map<String, Long> getRoleStats() {
         return getAllUsers().stream()
                 .collect(Collectors.groupingBy(
@@ -45,7 +52,7 @@ public class UserService {
     }
 
     public User getUserById(Long id) {
-        return userDao.findById(id)
+        return IdentityMap.find(User.class, id, userDao::findById)
                 .orElseThrow(() -> new UserNotFoundException("Сотрудник с таким id не был найден!"));
     }
 
@@ -63,6 +70,7 @@ public class UserService {
     public void updateUser(User user) {
         user.setUpdatedAt(null);
         Long id = userDao.save(user);
+        IdentityMap.evict(User.class, user.getId());
         info("Был обновлен сотрудник с id " + id);
     }
 
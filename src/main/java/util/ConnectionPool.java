@@ -0,0 +1,281 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static util.LoggerUtil.error;
+import static util.LoggerUtil.info;
+
+public class ConnectionPool {
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final long maxWaitMillis;
+    private final long validateAfterIdleMillis;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final Deque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger opened = new AtomicInteger();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, String user, String password,
+                          int maxSize, long maxWaitMillis,
+                          long validateAfterIdleMillis, int validationTimeoutSeconds,
+                          int statementCacheSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Размер пула должен быть положительным");
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.validateAfterIdleMillis = validateAfterIdleMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    public Connection lease() throws SQLException {
+        if (closed) {
+            throw new SQLException("Пул соединений закрыт");
+        }
+
+        acquirePermit();
+
+        try {
+            PooledConnection pooled = takeIdle();
+            if (pooled == null) {
+                pooled = open();
+            }
+            active.incrementAndGet();
+            leases.increment();
+            return pooled.newLease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public Stats getStats() {
+        long count = leases.sum();
+        double avgWaitMillis = count == 0 ? 0 : totalWaitNanos.sum() / (double) count / 1_000_000;
+        return new Stats(
+                active.get(),
+                idle.size(),
+                opened.get(),
+                maxSize,
+                count,
+                timeouts.sum(),
+                avgWaitMillis,
+                maxWaitNanos.get() / 1_000_000.0
+        );
+    }
+
+    public void close() {
+        closed = true;
+        PooledConnection pooled;
+        while ((pooled = idle.poll()) != null) {
+            discard(pooled);
+        }
+    }
+
+    private void acquirePermit() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+
+        try {
+            acquired = permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Ожидание соединения из пула было прервано", e);
+        }
+
+        long waited = System.nanoTime() - start;
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+        if (!acquired) {
+            timeouts.increment();
+            throw new SQLTimeoutException("Не удалось получить соединение из пула за " + maxWaitMillis + " мс");
+        }
+    }
+
+    private PooledConnection takeIdle() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            discard(pooled);
+        }
+        return null;
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        if (System.currentTimeMillis() - pooled.lastReturned < validateAfterIdleMillis) {
+            return true;
+        }
+
+        try {
+            return pooled.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection open() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, user, password);
+        int total = opened.incrementAndGet();
+        info("Открыто новое соединение с базой данных, всего в пуле: " + total);
+        return new PooledConnection(physical);
+    }
+
+    private void release(PooledConnection pooled) {
+        active.decrementAndGet();
+
+        try {
+            if (closed || !reset(pooled.physical)) {
+                discard(pooled);
+            } else {
+                pooled.lastReturned = System.currentTimeMillis();
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean reset(Connection physical) {
+        try {
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            error("Ошибка при возврате соединения в пул", e);
+            return false;
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        opened.decrementAndGet();
+        pooled.statementCache.clear();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            error("Ошибка при закрытии соединения с базой данных", e);
+        }
+    }
+
+    public record Stats(int active, int idle, int opened, int maxSize,
+                        long leases, long timeouts,
+                        double avgWaitMillis, double maxWaitMillis) {
+    }
+
+    private final class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statementCache;
+        private volatile long lastReturned = System.currentTimeMillis();
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statementCache = new StatementCache(physical, statementCacheSize);
+        }
+
+        private Connection newLease() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new Lease(this));
+        }
+    }
+
+    private final class Lease implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean returned;
+
+        private Lease(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!returned) {
+                        returned = true;
+                        release(pooled);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned || pooled.physical.isClosed();
+                }
+                case "isWrapperFor" -> {
+                    checkNotReturned();
+                    Class<?> type = (Class<?>) args[0];
+                    return type == StatementCache.class || type.isInstance(proxy);
+                }
+                case "unwrap" -> {
+                    checkNotReturned();
+                    Class<?> type = (Class<?>) args[0];
+                    if (type == StatementCache.class) {
+                        return pooled.statementCache;
+                    }
+                    if (type.isInstance(proxy)) {
+                        return proxy;
+                    }
+                    throw new SQLException("Соединение из пула не раскрывает " + type.getName());
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "PooledConnection[" + pooled.physical + (returned ? ", returned" : "") + "]";
+                }
+                default -> checkNotReturned();
+            }
+
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private void checkNotReturned() throws SQLException {
+            if (returned) {
+                throw new SQLException("Соединение уже возвращено в пул");
+            }
+        }
+    }
+}
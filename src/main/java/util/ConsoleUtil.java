@@ -1,13 +1,20 @@
 package util;
 
+import dao.Page;
 import model.FormattableEntity;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static util.InputHandler.getDateInput;
+import static util.InputHandler.getIntInput;
 
 public class ConsoleUtil {
+    public static final int PAGE_SIZE = 20;
+
     private ConsoleUtil() {
     }
 
@@ -40,19 +47,75 @@ public class ConsoleUtil {
 
     @FunctionalInterface
     public interface DateRangeSupplier<T> {
-        List<T> getForDateRange(LocalDate startDate, LocalDate endDate);
+        Stream<T> getForDateRange(LocalDate startDate, LocalDate endDate);
     }
 
     public static <T extends FormattableEntity> void selectEntitiesForDateRange(DateRangeSupplier<T> supplier, String headerMessage) {
         LocalDate startDate = getDateInput("Введите период для поиска" + " (начальная дата, ГГГГ-ММ-ДД): ");
         LocalDate endDate = getDateInput("Введите период для поиска" + " (конечная дата, ГГГГ-ММ-ДД): ");
 
-        List<T> entities = supplier.getForDateRange(startDate, endDate);
-        showEntitiesTable(entities, headerMessage);
+        showEntitiesTable(supplier.getForDateRange(startDate, endDate), headerMessage);
+    }
+
+    @FunctionalInterface
+    public interface PageSupplier<T> {
+        Page<T> getPage(Long afterId, int limit);
+    }
+
+    public static <T extends FormattableEntity> void showPagedTable(PageSupplier<T> supplier, String title) {
+        List<Long> cursors = new ArrayList<>();
+        cursors.add(null);
+
+        while (true) {
+            int pageNumber = cursors.size();
+            Page<T> page = supplier.getPage(cursors.getLast(), PAGE_SIZE);
+            showEntitiesTable(page.items(), title.strip() + " (страница " + pageNumber + ")");
+
+            boolean hasPrevious = pageNumber > 1;
+            if (!page.hasNext() && !hasPrevious) {
+                return;
+            }
+
+            if (page.hasNext()) {
+                println("1. Следующая страница");
+            }
+            if (hasPrevious) {
+                println("2. Предыдущая страница");
+            }
+            println("0. Закончить просмотр");
+
+            int choice = getIntInput("Выберите действие: ");
+            if (choice == 1 && page.hasNext()) {
+                cursors.add(page.nextCursor());
+            } else if (choice == 2 && hasPrevious) {
+                cursors.removeLast();
+            } else if (choice == 0) {
+                return;
+            } else {
+                println("Неверный выбор. Попробуйте снова.");
+            }
+        }
     }
 
     public static <T extends FormattableEntity> void showEntitiesTable(List<T> entities, String title) {
         printHeader(title);
         println(TableFormatter.formatTable(entities));
     }
+
+    public static <T extends FormattableEntity> void showEntitiesTable(Stream<T> entities, String title) {
+        printHeader(title);
+        try (entities) {
+            Iterator<T> rows = entities.iterator();
+            if (!rows.hasNext()) {
+                println("Нет данных для отображения");
+                return;
+            }
+
+            T first = rows.next();
+            println(first.getTableHeader());
+            println(first.getTableDivider());
+            println(first.toTableRow());
+            rows.forEachRemaining(entity -> println(entity.toTableRow()));
+        }
+    }
 }
\ No newline at end of file
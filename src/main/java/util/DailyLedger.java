@@ -0,0 +1,102 @@
+package util;
+
+import model.DailyTotal;
+import model.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class DailyLedger {
+    private static final int PADDING_DAYS = 366;
+
+    private final Supplier<Optional<List<DailyTotal>>> loader;
+    private FenwickTree tree;
+    private long firstDay;
+    private long generation;
+
+    public DailyLedger(Supplier<Optional<List<DailyTotal>>> loader) {
+        this.loader = loader;
+    }
+
+    public synchronized BigDecimal sum(LocalDate startDate, LocalDate endDate) {
+        ensureLoaded();
+        long from = Math.max(startDate.toEpochDay(), firstDay);
+        long to = Math.min(endDate.toEpochDay(), lastDay());
+        if (from > to) {
+            return Money.ZERO.toBigDecimal();
+        }
+        return Money.ofCents(tree.rangeSum(index(from), index(to))).toBigDecimal();
+    }
+
+    public synchronized BigDecimal total() {
+        ensureLoaded();
+        return Money.ofCents(tree.prefixSum(tree.size())).toBigDecimal();
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized void add(long writeGeneration, LocalDate day, BigDecimal amount) {
+        if (tree == null) {
+            return;
+        }
+        if (writeGeneration != generation) {
+            tree = null;
+            return;
+        }
+        long epochDay = day.toEpochDay();
+        if (epochDay < firstDay || epochDay > lastDay()) {
+            resize(epochDay);
+        }
+        tree.add(index(epochDay), Money.of(amount).cents());
+    }
+
+    private void ensureLoaded() {
+        if (tree != null) {
+            return;
+        }
+
+        List<DailyTotal> totals = loader.get()
+                .orElseThrow(() -> new IllegalStateException("Не удалось загрузить итоги по дням"));
+        long today = LocalDate.now().toEpochDay();
+        long minDay = today;
+        long maxDay = today;
+        for (DailyTotal total : totals) {
+            minDay = Math.min(minDay, total.day().toEpochDay());
+            maxDay = Math.max(maxDay, total.day().toEpochDay());
+        }
+
+        long start = minDay - PADDING_DAYS;
+        long[] values = new long[Math.toIntExact(maxDay + PADDING_DAYS - start + 1)];
+        for (DailyTotal total : totals) {
+            values[Math.toIntExact(total.day().toEpochDay() - start)] += Money.of(total.amount()).cents();
+        }
+
+        firstDay = start;
+        tree = FenwickTree.of(values);
+        generation++;
+    }
+
+    private void resize(long epochDay) {
+        long start = Math.min(firstDay, epochDay - PADDING_DAYS);
+        long end = Math.max(lastDay(), epochDay + PADDING_DAYS);
+        long[] values = new long[Math.toIntExact(end - start + 1)];
+        long[] current = tree.values();
+        System.arraycopy(current, 0, values, Math.toIntExact(firstDay - start), current.length);
+
+        firstDay = start;
+        tree = FenwickTree.of(values);
+    }
+
+    private long lastDay() {
+        return firstDay + tree.size() - 1;
+    }
+
+    private int index(long epochDay) {
+        return Math.toIntExact(epochDay - firstDay + 1);
+    }
+}
\ No newline at end of file
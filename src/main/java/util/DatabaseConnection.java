@@ -1,33 +1,37 @@
 package util;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
-import static util.LoggerUtil.error;
-
 public class DatabaseConnection {
     private DatabaseConnection() {}
     private static final String URL = "jdbc:h2:./db/mini-mart;AUTO_SERVER=TRUE";
     private static final String USER = "root";
     private static final String PASSWORD = "qwerty";
-    
-    private static Connection connection;
-    
+
+    private static final int POOL_MAX_SIZE = 10;
+    private static final long POOL_MAX_WAIT_MILLIS = 5_000;
+    private static final long VALIDATE_AFTER_IDLE_MILLIS = 30_000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final int STATEMENT_CACHE_SIZE = 64;
+
+    private static final ConnectionPool pool = new ConnectionPool(
+            URL, USER, PASSWORD,
+            POOL_MAX_SIZE,
+            POOL_MAX_WAIT_MILLIS,
+            VALIDATE_AFTER_IDLE_MILLIS,
+            VALIDATION_TIMEOUT_SECONDS,
+            STATEMENT_CACHE_SIZE);
+
     public static Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            connection = DriverManager.getConnection(URL, USER, PASSWORD);
-        }
-        return connection;
+        return pool.lease();
     }
-    
+
+    public static ConnectionPool.Stats getPoolStats() {
+        return pool.getStats();
+    }
+
     public static void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-            }
-        } catch (SQLException e) {
-            error("Error closing database connection: " + e.getMessage());
-        }
+        pool.close();
     }
-}
\ No newline at end of file
+}
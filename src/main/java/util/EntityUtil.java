@@ -1,5 +1,6 @@
 package util;
 
+import dao.Page;
 import exception.nsee.*;
 
 import java.util.*;
@@ -66,6 +67,14 @@ public class EntityUtil {
         throw createException(meta, message);
     }
 
+    public static <T> Page<T> findPageAndValidate(Supplier<Page<T>> supplier, String customErrorMessage) {
+        Objects.requireNonNull(supplier, "Поставщик данных не может быть null");
+
+        Page<T> page = supplier.get();
+        findAndValidate(page::items, customErrorMessage);
+        return page;
+    }
+
     public static <T> List<T> findAndValidate(Supplier<List<T>> supplier) {
         return findAndValidate(supplier, null);
     }
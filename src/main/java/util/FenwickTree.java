@@ -0,0 +1,69 @@
+package util;
+
+public class FenwickTree {
+    private final long[] tree;
+
+    public FenwickTree(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Размер дерева не может быть отрицательным");
+        }
+        this.tree = new long[size + 1];
+    }
+
+    public static FenwickTree of(long[] values) {
+        FenwickTree fenwick = new FenwickTree(values.length);
+        System.arraycopy(values, 0, fenwick.tree, 1, values.length);
+        for (int i = 1; i < fenwick.tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < fenwick.tree.length) {
+                fenwick.tree[parent] += fenwick.tree[i];
+            }
+        }
+        return fenwick;
+    }
+
+    public int size() {
+        return tree.length - 1;
+    }
+
+    public void add(int index, long delta) {
+        checkIndex(index);
+        for (int i = index; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    public long prefixSum(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Индекс " + index + " вне диапазона 0.." + size());
+        }
+        long sum = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    public long rangeSum(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+        if (from > to) {
+            return 0;
+        }
+        return prefixSum(to) - prefixSum(from - 1);
+    }
+
+    public long[] values() {
+        long[] values = new long[size()];
+        for (int i = 1; i <= size(); i++) {
+            values[i - 1] = rangeSum(i, i);
+        }
+        return values;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 1 || index > size()) {
+            throw new IndexOutOfBoundsException("Индекс " + index + " вне диапазона 1.." + size());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package util;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static util.LoggerUtil.warn;
+
+public class Metrics {
+    private Metrics() {}
+
+    private static final String JMX_DOMAIN = "mini_mart";
+
+    private static final Map<String, OperationTimer> timers = new ConcurrentHashMap<>();
+
+    public static OperationTimer timer(String label) {
+        OperationTimer timer = timers.get(label);
+        if (timer != null) {
+            return timer;
+        }
+        return timers.computeIfAbsent(label, Metrics::register);
+    }
+
+    public static void record(String label, long nanos, boolean failed) {
+        timer(label).record(nanos, failed);
+    }
+
+    public static <T> T time(String label, Supplier<T> operation) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = operation.get();
+            failed = false;
+            return result;
+        } finally {
+            record(label, System.nanoTime() - start, failed);
+        }
+    }
+
+    public static void run(String label, Runnable operation) {
+        time(label, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    public static List<OperationTimer.Snapshot> getSnapshots() {
+        return timers.values().stream()
+                .map(OperationTimer::snapshot)
+                .sorted(Comparator.comparingDouble(OperationTimer.Snapshot::totalMillis).reversed())
+                .toList();
+    }
+
+    private static OperationTimer register(String label) {
+        OperationTimer timer = new OperationTimer(label);
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=OperationTimer,name=" + ObjectName.quote(label));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(timer, name);
+        } catch (JMException e) {
+            warn("Не удалось зарегистрировать JMX-метрику " + label + ": " + e.getMessage());
+        }
+        return timer;
+    }
+}
@@ -0,0 +1,184 @@
+package util;
+
+import model.FormattableEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationTimer implements OperationTimerMXBean {
+    private static final long[] BUCKET_BOUNDS_MICROS = {
+            500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000,
+            100_000, 250_000, 500_000, 1_000_000, 2_500_000
+    };
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String label;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MICROS.length + 1];
+
+    public OperationTimer(String label) {
+        this.label = label;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos, boolean failed) {
+        count.increment();
+        if (failed) {
+            errors.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        buckets[bucketIndex(nanos / 1_000)].increment();
+    }
+
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getTotalMillis() {
+        return totalNanos.sum() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMeanMillis() {
+        long total = count.sum();
+        return total == 0 ? 0 : totalNanos.sum() / NANOS_PER_MILLI / total;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return maxNanos.get() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return percentileMillis(0.50);
+    }
+
+    @Override
+    public double getP95Millis() {
+        return percentileMillis(0.95);
+    }
+
+    @Override
+    public double getP99Millis() {
+        return percentileMillis(0.99);
+    }
+
+    @Override
+    public Map<String, Long> getHistogram() {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKET_BOUNDS_MICROS.length; i++) {
+            histogram.put("<=" + formatMillis(BUCKET_BOUNDS_MICROS[i]) + "ms", buckets[i].sum());
+        }
+        histogram.put(">" + formatMillis(BUCKET_BOUNDS_MICROS[BUCKET_BOUNDS_MICROS.length - 1]) + "ms",
+                buckets[BUCKET_BOUNDS_MICROS.length].sum());
+        return histogram;
+    }
+
+    @Override
+    public void reset() {
+        count.reset();
+        errors.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(label, getCount(), getErrorCount(), getTotalMillis(),
+                getMeanMillis(), getP95Millis(), getMaxMillis());
+    }
+
+    private double percentileMillis(double quantile) {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MICROS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(BUCKET_BOUNDS_MICROS[i] / 1_000.0, getMaxMillis());
+            }
+        }
+        return getMaxMillis();
+    }
+
+    private static int bucketIndex(long micros) {
+        for (int i = 0; i < BUCKET_BOUNDS_MICROS.length; i++) {
+            if (micros <= BUCKET_BOUNDS_MICROS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_MICROS.length;
+    }
+
+    private static String formatMillis(long micros) {
+        return micros % 1_000 == 0 ? String.valueOf(micros / 1_000) : String.valueOf(micros / 1_000.0);
+    }
+
+    public record Snapshot(String label, long count, long errors, double totalMillis,
+                           double meanMillis, double p95Millis, double maxMillis) implements FormattableEntity {
+        private static final int LABEL_WIDTH = 40;
+        private static final int COUNT_WIDTH = 10;
+        private static final int ERRORS_WIDTH = 8;
+        private static final int MILLIS_WIDTH = 12;
+
+        @Override
+        public String getTableHeader() {
+            return TableFormatter.formatCell("Операция", LABEL_WIDTH) +
+                    TableFormatter.formatCell("Вызовов", COUNT_WIDTH) +
+                    TableFormatter.formatCell("Ошибок", ERRORS_WIDTH) +
+                    TableFormatter.formatCell("Всего, мс", MILLIS_WIDTH) +
+                    TableFormatter.formatCell("Средн., мс", MILLIS_WIDTH) +
+                    TableFormatter.formatCell("p95, мс", MILLIS_WIDTH) +
+                    TableFormatter.formatCell("Макс., мс", MILLIS_WIDTH);
+        }
+
+        @Override
+        public String toTableRow() {
+            return TableFormatter.formatCell(label, LABEL_WIDTH) +
+                    TableFormatter.formatCell(count, COUNT_WIDTH) +
+                    TableFormatter.formatCell(errors, ERRORS_WIDTH) +
+                    TableFormatter.formatCell(String.format("%.2f", totalMillis), MILLIS_WIDTH) +
+                    TableFormatter.formatCell(String.format("%.2f", meanMillis), MILLIS_WIDTH) +
+                    TableFormatter.formatCell(String.format("%.2f", p95Millis), MILLIS_WIDTH) +
+                    TableFormatter.formatCell(String.format("%.2f", maxMillis), MILLIS_WIDTH);
+        }
+
+        @Override
+        public String getTableDivider() {
+            return TableFormatter.createDivider(LABEL_WIDTH, COUNT_WIDTH, ERRORS_WIDTH,
+                    MILLIS_WIDTH, MILLIS_WIDTH, MILLIS_WIDTH, MILLIS_WIDTH);
+        }
+    }
+}
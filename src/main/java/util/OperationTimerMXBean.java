@@ -0,0 +1,27 @@
+package util;
+
+import java.util.Map;
+
+public interface OperationTimerMXBean {
+    String getLabel();
+
+    long getCount();
+
+    long getErrorCount();
+
+    double getTotalMillis();
+
+    double getMeanMillis();
+
+    double getMaxMillis();
+
+    double getP50Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    Map<String, Long> getHistogram();
+
+    void reset();
+}
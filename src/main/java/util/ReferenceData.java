@@ -0,0 +1,68 @@
+package util;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class ReferenceData<T> {
+    private final Supplier<Optional<List<T>>> loader;
+    private final Function<T, Long> idOf;
+    private final Function<T, String> nameOf;
+    private final AtomicReference<Snapshot<T>> snapshot = new AtomicReference<>();
+
+    public ReferenceData(Supplier<Optional<List<T>>> loader, Function<T, Long> idOf, Function<T, String> nameOf) {
+        this.loader = loader;
+        this.idOf = idOf;
+        this.nameOf = nameOf;
+    }
+
+    public List<T> all() {
+        return current().items();
+    }
+
+    public Optional<T> findById(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    public Optional<T> findByName(String name) {
+        return Optional.ofNullable(current().byName().get(name));
+    }
+
+    public void refresh() {
+        snapshot.set(load().orElseThrow(() ->
+                new IllegalStateException("Не удалось обновить справочник, сохранены прежние данные")));
+    }
+
+    private Snapshot<T> current() {
+        Snapshot<T> loaded = snapshot.get();
+        if (loaded != null) {
+            return loaded;
+        }
+
+        snapshot.compareAndSet(null, load().orElseThrow(() ->
+                new IllegalStateException("Не удалось загрузить справочник")));
+        return snapshot.get();
+    }
+
+    private Optional<Snapshot<T>> load() {
+        return loader.get().map(this::snapshotOf);
+    }
+
+    private Snapshot<T> snapshotOf(List<T> loaded) {
+        List<T> items = List.copyOf(loaded);
+        Map<Long, T> byId = new LinkedHashMap<>();
+        Map<String, T> byName = new LinkedHashMap<>();
+        for (T item : items) {
+            byId.put(idOf.apply(item), item);
+            byName.putIfAbsent(nameOf.apply(item), item);
+        }
+        return new Snapshot<>(items, Map.copyOf(byId), Map.copyOf(byName));
+    }
+
+    private record Snapshot<T>(List<T> items, Map<Long, T> byId, Map<String, T> byName) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+import static util.LoggerUtil.error;
+
+public class SlowQueryLog {
+    private SlowQueryLog() {}
+
+    private static final Logger LOGGER = Logger.getLogger(SlowQueryLog.class.getName());
+    private static final String LOG_FILE = "logs/slow_queries.%g.log";
+    private static final int LOG_FILE_LIMIT_BYTES = 5 * 1024 * 1024;
+    private static final int LOG_FILE_COUNT = 5;
+
+    private static final long THRESHOLD_NANOS =
+            Long.getLong("mini_mart.slowQuery.thresholdMillis", 200) * 1_000_000;
+    private static final long EXPLAIN_INTERVAL_NANOS =
+            Long.getLong("mini_mart.slowQuery.explainIntervalSeconds", 60) * 1_000_000_000;
+
+    private static final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+    private static FileHandler fileHandler;
+
+    static {
+        try {
+            LoggerUtil.info("Журнал медленных запросов: порог " + THRESHOLD_NANOS / 1_000_000 + " мс");
+            fileHandler = new FileHandler(LOG_FILE, LOG_FILE_LIMIT_BYTES, LOG_FILE_COUNT, true);
+            fileHandler.setFormatter(new SimpleFormatter());
+            LOGGER.addHandler(fileHandler);
+            LOGGER.setLevel(Level.INFO);
+            LOGGER.setUseParentHandlers(false);
+        } catch (IOException e) {
+            error("Не удалось настроить журнал медленных запросов", e);
+        }
+    }
+
+    public static boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= THRESHOLD_NANOS;
+    }
+
+    public static boolean shouldExplain(String sql) {
+        long now = System.nanoTime();
+        Long previous = lastExplained.get(sql);
+        if (previous != null && now - previous < EXPLAIN_INTERVAL_NANOS) {
+            return false;
+        }
+        return previous == null
+                ? lastExplained.putIfAbsent(sql, now) == null
+                : lastExplained.replace(sql, previous, now);
+    }
+
+    public static void record(String label, String sql, Object[] params, long elapsedNanos, String plan) {
+        StringBuilder entry = new StringBuilder()
+                .append("Медленный запрос ").append(label)
+                .append(String.format(" (%.2f мс)", elapsedNanos / 1_000_000.0))
+                .append("\nSQL: ").append(sql)
+                .append("\nПараметры: ").append(Arrays.toString(params));
+        if (plan != null) {
+            entry.append("\nПлан выполнения:\n").append(plan);
+        }
+        LOGGER.warning(entry.toString());
+    }
+
+    public static void close() {
+        if (fileHandler != null) {
+            fileHandler.close();
+        }
+    }
+}
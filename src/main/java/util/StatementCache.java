@@ -0,0 +1,170 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static util.LoggerUtil.error;
+
+public class StatementCache {
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private final Connection physical;
+    private final int capacity;
+    private final LinkedHashMap<Key, CachedStatement> statements;
+
+    public StatementCache(Connection physical, int capacity) {
+        this.physical = physical;
+        this.capacity = capacity;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedStatement> eldest) {
+                if (size() <= StatementCache.this.capacity) {
+                    return false;
+                }
+                EVICTIONS.increment();
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    public static Stats getStats() {
+        return new Stats(HITS.sum(), MISSES.sum(), EVICTIONS.sum());
+    }
+
+    public synchronized PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+        Key key = new Key(sql, autoGeneratedKeys);
+        CachedStatement cached = statements.get(key);
+
+        if (cached != null && !cached.inUse && !cached.statement.isClosed()) {
+            HITS.increment();
+            cached.inUse = true;
+            return cached.handle;
+        }
+
+        MISSES.increment();
+        PreparedStatement statement = create(key);
+
+        if (cached != null && cached.inUse) {
+            return statement;
+        }
+
+        CachedStatement created = new CachedStatement(statement);
+        created.inUse = true;
+        statements.put(key, created);
+        return created.handle;
+    }
+
+    public synchronized void clear() {
+        List<CachedStatement> cached = new ArrayList<>(statements.values());
+        statements.clear();
+        cached.forEach(CachedStatement::evict);
+    }
+
+    private PreparedStatement create(Key key) throws SQLException {
+        return key.autoGeneratedKeys() == 0
+                ? physical.prepareStatement(key.sql())
+                : physical.prepareStatement(key.sql(), key.autoGeneratedKeys());
+    }
+
+    private void release(CachedStatement cached) {
+        synchronized (this) {
+            cached.inUse = false;
+            if (!cached.evicted) {
+                try {
+                    cached.statement.clearParameters();
+                    cached.statement.clearBatch();
+                    return;
+                } catch (SQLException e) {
+                    error("Ошибка при возврате подготовленного запроса в кэш", e);
+                    statements.values().remove(cached);
+                }
+            }
+        }
+        closeQuietly(cached.statement);
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            error("Ошибка при закрытии подготовленного запроса", e);
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record Key(String sql, int autoGeneratedKeys) {
+    }
+
+    private final class CachedStatement implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final PreparedStatement handle;
+        private boolean inUse;
+        private boolean evicted;
+
+        private CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+            this.handle = (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    this);
+        }
+
+        private void evict() {
+            evicted = true;
+            if (!inUse) {
+                closeQuietly(statement);
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (inUse) {
+                        release(this);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return !inUse || statement.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                    if (!inUse) {
+                        throw new SQLException("Подготовленный запрос уже возвращен в кэш");
+                    }
+                }
+            }
+
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+-- changeset Ari: 021 create secondary indexes for report filters
+create index idx_sales_sale_date on sales (sale_date);
+
+create index idx_expenses_expense_date on expenses (expense_date);
+
+create index idx_expenses_amount_date on expenses (total_amount, expense_date);
+
+create index idx_incomes_income_date on incomes (income_date);
+
+create index idx_purchases_purchase_date on purchases (purchase_date);
+
+create index idx_payrolls_period on payrolls (period_start, period_end);
+
+create index idx_payrolls_is_paid on payrolls (is_paid);
+
+create unique index uq_monthly_budgets_budget_date on monthly_budgets (budget_date);
\ No newline at end of file
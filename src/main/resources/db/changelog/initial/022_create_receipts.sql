@@ -0,0 +1,26 @@
+-- changeset Ari: 022 create receipt table
+create table receipts
+(
+    id           long auto_increment primary key not null,
+    cashier_id   long                            not null,
+    total_amount decimal(10, 2)                  not null,
+    receipt_date timestamp                       not null default current_timestamp,
+
+    constraint fk_receipt_cashier
+        foreign key (cashier_id)
+            references users (id)
+            on delete restrict
+            on update cascade
+);
+
+alter table sales
+    add column receipt_id long;
+
+alter table sales
+    add constraint fk_sales_receipt
+        foreign key (receipt_id)
+            references receipts (id)
+            on delete restrict
+            on update cascade;
+
+create index idx_sales_receipt_id on sales (receipt_id);
\ No newline at end of file
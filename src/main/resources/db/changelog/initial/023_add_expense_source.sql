@@ -0,0 +1,8 @@
+-- changeset Ari: 023 add expense source reference
+alter table expenses
+    add column source_type varchar(20);
+
+alter table expenses
+    add column source_id long;
+
+create index idx_expenses_source on expenses (source_type, source_id);
\ No newline at end of file
@@ -0,0 +1,23 @@
+-- changeset Ari: 024 create sales daily summary table
+create table sales_daily_summary
+(
+    sale_day    date           not null,
+    product_id  long           not null,
+    quantity    long           not null default 0,
+    revenue     decimal(14, 2) not null default 0,
+    sales_count long           not null default 0,
+
+    constraint pk_sales_daily_summary
+        primary key (sale_day, product_id),
+
+    constraint fk_sales_daily_summary_product
+        foreign key (product_id)
+            references products (id)
+            on delete restrict
+            on update cascade
+);
+
+insert into sales_daily_summary (sale_day, product_id, quantity, revenue, sales_count)
+select cast(sale_date as date), product_id, sum(quantity), sum(total_amount), count(*)
+from sales
+group by cast(sale_date as date), product_id;
\ No newline at end of file